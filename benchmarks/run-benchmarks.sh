@@ -0,0 +1,85 @@
+#!/bin/bash
+# JMH benchmarks of the scanner, parser and code generator.
+#
+#   benchmarks/run-benchmarks.sh                              # everything
+#   benchmarks/run-benchmarks.sh Parser -p tests=1000 -p body=SMALL
+#   benchmarks/run-benchmarks.sh --concurrency 200 1 2 4 8    # one shared TestLangCompiler, N threads
+#   benchmarks/run-benchmarks.sh --concurrency --quick        # shorter runs, as build-all.sh does
+#
+# Arguments are passed to JMH. The GC profiler is always on, for allocation rates, and the
+# results are written to benchmarks/results/<date>-<commit>.json.
+
+# colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # no color
+
+cd "$(dirname "$0")/.." || exit 1
+
+JMH_VERSION=1.37
+MAVEN=https://repo1.maven.org/maven2
+LIB=benchmarks/lib
+BUILD=benchmarks/build
+JARS="org/openjdk/jmh/jmh-core/$JMH_VERSION/jmh-core-$JMH_VERSION.jar
+org/openjdk/jmh/jmh-generator-annprocess/$JMH_VERSION/jmh-generator-annprocess-$JMH_VERSION.jar
+net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar
+org/apache/commons/commons-math3/3.6.1/commons-math3-3.6.1.jar"
+
+# step 1: JMH and its dependencies, downloaded once into benchmarks/lib
+echo -e "${YELLOW}[1/4] fetching JMH...${NC}"
+mkdir -p "$LIB"
+JMH_CP=""
+for jar in $JARS; do
+    file="$LIB/$(basename "$jar")"
+    if [ ! -f "$file" ]; then
+        curl -fsSL -o "$file" "$MAVEN/$jar"
+        if [ $? -ne 0 ]; then
+            rm -f "$file"
+            echo -e "${RED}could not download $MAVEN/$jar${NC}"
+            exit 1
+        fi
+    fi
+    JMH_CP="$JMH_CP:$file"
+done
+JMH_CP="${JMH_CP#:}"
+echo -e "${GREEN}JMH $JMH_VERSION ready${NC}\n"
+
+# step 2: the compiler, from the current sources (scanner and parser as generated in src)
+echo -e "${YELLOW}[2/4] compiling the compiler...${NC}"
+rm -rf "$BUILD"
+mkdir -p "$BUILD/testlang" "$BUILD/classes"
+javac -nowarn -encoding UTF-8 -cp "lib/java-cup-11b-runtime.jar:lib/junit-platform-console-standalone-1.9.3.jar" \
+    -d "$BUILD/testlang" $(find src -name '*.java')
+if [ $? -ne 0 ]; then
+    echo -e "${RED}compiler compilation failed${NC}"
+    exit 1
+fi
+echo -e "${GREEN}compiler compiled${NC}\n"
+
+# step 3: the benchmarks; JMH's annotation processor generates the harness classes
+echo -e "${YELLOW}[3/4] compiling benchmarks...${NC}"
+CP="lib/java-cup-11b-runtime.jar:$BUILD/testlang:$JMH_CP"
+javac -encoding UTF-8 -cp "$CP" -processorpath "$JMH_CP" -d "$BUILD/classes" benchmarks/src/bench/*.java
+if [ $? -ne 0 ]; then
+    echo -e "${RED}benchmark compilation failed${NC}"
+    exit 1
+fi
+echo -e "${GREEN}benchmarks compiled${NC}\n"
+
+# step 4: run; --concurrency runs the concurrent-compile harness instead of JMH
+if [ "$1" = "--concurrency" ]; then
+    shift
+    echo -e "${YELLOW}[4/4] compiling concurrently...${NC}"
+    java -cp "$CP:$BUILD/classes" bench.ConcurrentCompile "$@"
+    exit $?
+fi
+mkdir -p benchmarks/results
+RESULT="benchmarks/results/$(date +%Y%m%d-%H%M%S)-$(git rev-parse --short HEAD 2>/dev/null || echo local).json"
+echo -e "${YELLOW}[4/4] running benchmarks...${NC}"
+java -cp "$CP:$BUILD/classes" org.openjdk.jmh.Main -prof gc -rf json -rff "$RESULT" "$@"
+if [ $? -ne 0 ]; then
+    echo -e "${RED}benchmarks failed${NC}"
+    exit 1
+fi
+echo -e "\n${GREEN}results written to $RESULT${NC}"
@@ -0,0 +1,45 @@
+package bench;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import ast.Program;
+
+//CodeGenerator.generate on a program parsed once up front: bytes of Java source per second
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeGeneratorBenchmark {
+    @State(Scope.Benchmark)
+    public static class Parsed {
+        public Program program;
+        public long bytes;   // UTF-8 size of the generated source, the same on every call
+
+        @Setup(Level.Trial)
+        public void parse(CorpusState corpus) throws Throwable {
+            program = Compiler.parse(new StringReader(corpus.source));
+            bytes = Compiler.generate(program).getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public String generate(Parsed parsed, Bytes counter) throws Throwable {
+        String source = Compiler.generate(parsed.program);
+        counter.bytes += parsed.bytes;
+        return source;
+    }
+}
@@ -0,0 +1,95 @@
+package bench;
+
+import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java_cup.runtime.Symbol;
+import ast.Program;
+
+//The scanner, parser and generator are in the default package, which code in a package cannot
+//import (and JMH does not allow benchmarks in the default package). They are reached through
+//static final method handles instead, which the JIT compiles like direct calls.
+final class Compiler {
+    private static final MethodHandle NEW_SCANNER;
+    private static final MethodHandle NEXT_TOKEN;
+    private static final MethodHandle NEW_PARSER;
+    private static final MethodHandle PARSE;
+    private static final MethodHandle GET_PROGRAM;
+    private static final MethodHandle NEW_GENERATOR;
+    private static final MethodHandle GENERATE;
+    private static final MethodHandle NEW_FACADE;
+    private static final MethodHandle COMPILE;
+    private static final MethodHandle GET_SOURCES;
+
+    static final int EOF;
+
+    static {
+        try {
+            Class<?> scanner = Class.forName("TestLangScanner");   // package-private
+            Class<?> parser = Class.forName("TestLangParser");
+            Class<?> generator = Class.forName("CodeGenerator");
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(scanner, MethodHandles.lookup());
+            NEW_SCANNER = lookup.findConstructor(scanner, MethodType.methodType(void.class, Reader.class))
+                .asType(MethodType.methodType(Object.class, Reader.class));
+            NEXT_TOKEN = lookup.findVirtual(scanner, "next_token", MethodType.methodType(Symbol.class))
+                .asType(MethodType.methodType(Symbol.class, Object.class));
+            NEW_PARSER = lookup.findConstructor(parser,
+                    MethodType.methodType(void.class, java_cup.runtime.Scanner.class))
+                .asType(MethodType.methodType(Object.class, Object.class));
+            PARSE = lookup.findVirtual(parser, "parse", MethodType.methodType(Symbol.class))
+                .asType(MethodType.methodType(Symbol.class, Object.class));
+            GET_PROGRAM = lookup.findVirtual(parser, "getProgram", MethodType.methodType(Program.class))
+                .asType(MethodType.methodType(Program.class, Object.class));
+            NEW_GENERATOR = lookup.findConstructor(generator, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+            GENERATE = lookup.findVirtual(generator, "generate", MethodType.methodType(String.class, Program.class))
+                .asType(MethodType.methodType(String.class, Object.class, Program.class));
+            Class<?> facade = Class.forName("TestLangCompiler");
+            Class<?> result = Class.forName("CompilationResult");
+            NEW_FACADE = lookup.findConstructor(facade, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+            COMPILE = lookup.findVirtual(facade, "compile", MethodType.methodType(result, Reader.class, String.class))
+                .asType(MethodType.methodType(Object.class, Object.class, Reader.class, String.class));
+            GET_SOURCES = lookup.findVirtual(result, "getSources", MethodType.methodType(Map.class))
+                .asType(MethodType.methodType(Map.class, Object.class));
+            EOF = Class.forName("sym").getField("EOF").getInt(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Compiler() {}
+
+    static Object scanner(Reader source) throws Throwable {
+        return (Object) NEW_SCANNER.invokeExact(source);
+    }
+
+    static Symbol nextToken(Object scanner) throws Throwable {
+        return (Symbol) NEXT_TOKEN.invokeExact(scanner);
+    }
+
+    static Program parse(Reader source) throws Throwable {
+        Object parser = (Object) NEW_PARSER.invokeExact(scanner(source));
+        //the grammar's actions build the program; the start symbol is not needed
+        Symbol start = (Symbol) PARSE.invokeExact(parser);
+        return (Program) GET_PROGRAM.invokeExact(parser);
+    }
+
+    static String generate(Program program) throws Throwable {
+        return (String) GENERATE.invokeExact((Object) NEW_GENERATOR.invokeExact(), program);
+    }
+
+    //a TestLangCompiler with the default settings
+    static Object newCompiler() throws Throwable {
+        return (Object) NEW_FACADE.invokeExact();
+    }
+
+    //TestLangCompiler.compile(source, sourceName).getSources(): generated class name to Java source
+    @SuppressWarnings("unchecked")
+    static Map<String, String> compile(Object compiler, Reader source, String sourceName) throws Throwable {
+        Object result = (Object) COMPILE.invokeExact(compiler, source, sourceName);
+        return (Map<String, String>) GET_SOURCES.invokeExact(result);
+    }
+}
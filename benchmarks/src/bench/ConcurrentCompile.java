@@ -0,0 +1,121 @@
+package bench;
+
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+//Many compilations at once through one shared TestLangCompiler, as an embedding build tool or the
+//daemon would run them. For each thread count it reports compiles per second and the speedup over
+//a measured one-thread run, and checks every result against the output of a single-threaded compile.
+//Exits with 1 if any result differs, or if on a machine with more than one CPU a thread count up to
+//the number of CPUs reaches less than MIN_EFFICIENCY of linear speedup.
+//
+//  benchmarks/run-benchmarks.sh --concurrency [--quick] [tests] [threads...]   (default 200 tests; 1 2 4 8)
+//
+//--quick warms up for 1 s and measures for 2 s instead of 2 s and 5 s; build-all.sh runs it that way.
+public final class ConcurrentCompile {
+    private static final double MIN_EFFICIENCY = 0.5;
+
+    private static long warmupNanos = TimeUnit.SECONDS.toNanos(2);
+    private static long measureNanos = TimeUnit.SECONDS.toNanos(5);
+
+    private ConcurrentCompile() {}
+
+    public static void main(String[] args) throws Throwable {
+        List<String> rest = new ArrayList<>(Arrays.asList(args));
+        if (rest.remove("--quick")) {
+            warmupNanos = TimeUnit.SECONDS.toNanos(1);
+            measureNanos = TimeUnit.SECONDS.toNanos(2);
+        }
+        int tests = rest.size() > 0 ? Integer.parseInt(rest.get(0)) : 200;
+        int[] threadCounts = rest.size() > 1
+            ? rest.subList(1, rest.size()).stream().mapToInt(Integer::parseInt).toArray()
+            : new int[] { 1, 2, 4, 8 };
+        int cpus = Runtime.getRuntime().availableProcessors();
+
+        String source = Corpus.generate(tests, Corpus.Body.SMALL, 4);
+        Object compiler = Compiler.newCompiler();
+        Map<String, String> expected = Compiler.compile(compiler, new StringReader(source), "corpus.test");
+
+        System.out.println(tests + " tests per compile, " + cpus + " CPUs");
+        System.out.println(String.format("%8s %14s %9s %11s", "threads", "compiles/s", "speedup", "mismatches"));
+        //the first run is still being JIT-compiled, so its numbers would flatter every later one
+        long mismatches = (long) run(compiler, source, expected, 1)[1];
+        //the baseline is always a measured one-thread run, also when 1 is not among the thread counts
+        double[] one = run(compiler, source, expected, 1);
+        mismatches += (long) one[1];
+        System.out.println(String.format("%8d %14.1f %8.2fx %11d", 1, one[0], 1.0, (long) one[1]));
+        List<String> slow = new ArrayList<>();
+        for (int threads : threadCounts) {
+            if (threads == 1) continue;
+            double[] result = run(compiler, source, expected, threads);
+            mismatches += (long) result[1];
+            double speedup = result[0] / one[0];
+            System.out.println(String.format("%8d %14.1f %8.2fx %11d", threads, result[0], speedup, (long) result[1]));
+            if (cpus > 1 && threads <= cpus && speedup < MIN_EFFICIENCY * threads) {
+                slow.add(threads + " threads: " + String.format("%.2fx", speedup));
+            }
+        }
+        boolean failed = false;
+        if (mismatches > 0) {
+            System.out.println("FAILED: " + mismatches + " concurrent compiles differ from the single-threaded output");
+            failed = true;
+        }
+        if (!slow.isEmpty()) {
+            System.out.println("FAILED: throughput does not scale, below " + MIN_EFFICIENCY + " of linear at "
+                + String.join(", ", slow));
+            failed = true;
+        }
+        if (cpus == 1) {
+            System.out.println("scaling not checked on 1 CPU");
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> compile(Object compiler, String source) throws Exception {
+        try {
+            return Compiler.compile(compiler, new StringReader(source), "corpus.test");
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //{ compiles per second, results that differ from expected }, measured after a warmup
+    private static double[] run(Object compiler, String source, Map<String, String> expected, int threads)
+            throws InterruptedException, ExecutionException {
+        LongAdder compiles = new LongAdder();
+        LongAdder mismatches = new LongAdder();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + measureNanos;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) - end < 0) {
+                        Map<String, String> sources = compile(compiler, source);
+                        if (now - measureFrom >= 0) {
+                            compiles.increment();
+                            if (!sources.equals(expected)) mismatches.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> w : workers) {
+                w.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new double[] { compiles.sum() * 1e9 / measureNanos, mismatches.sum() };
+    }
+}
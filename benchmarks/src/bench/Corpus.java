@@ -0,0 +1,94 @@
+package bench;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+//Synthetic .test sources for the benchmarks. The output only depends on the arguments, so runs
+//on different commits measure the same input.
+//
+//  java -cp benchmarks/build/classes bench.Corpus 1000 large 200 > big.test
+public final class Corpus {
+    public enum Body { SMALL, LARGE }
+
+    private static final String[] NAMES = { "alice", "bob", "carol", "dave", "erin", "frank" };
+
+    private Corpus() {}
+
+    public static String generate(int tests, Body body, int variables) {
+        StringBuilder out = new StringBuilder(tests * (body == Body.LARGE ? 900 : 260) + variables * 40 + 200);
+        out.append("config {\n");
+        out.append("  base_url = \"http://localhost:8080\";\n");
+        out.append("  header \"Content-Type\" = \"application/json\";\n");
+        out.append("  header \"X-Client\" = \"bench\";\n");
+        out.append("}\n\n");
+
+        for (int v = 0; v < variables; v++) {
+            if (v % 2 == 0) {
+                out.append("let id").append(v).append(" = ").append(1000 + v).append(";\n");
+            } else {
+                out.append("let name").append(v).append(" = \"").append(NAMES[v % NAMES.length]).append(v).append("\";\n");
+            }
+        }
+        out.append('\n');
+
+        for (int t = 0; t < tests; t++) {
+            //the even-numbered variables are the numeric ids
+            String variable = variables > 0 ? "$id" + ((t % variables) & ~1) : String.valueOf(t);
+            out.append("test Case").append(t).append(" {\n");
+            switch (t % 3) {
+                case 0:
+                    out.append("  GET \"/api/users/").append(variable).append("\";\n");
+                    out.append("  expect status = 200;\n");
+                    out.append("  expect header \"Content-Type\" contains \"json\";\n");
+                    out.append("  expect body contains \"\\\"id\\\": ").append(t).append("\";\n");
+                    break;
+                case 1:
+                    out.append("  POST \"/api/posts\" {\n");
+                    out.append("    body = \"").append(body(t, body)).append("\";\n");
+                    out.append("  };\n");
+                    out.append("  expect status = 201;\n");
+                    out.append("  expect body contains \"\\\"title\\\":\";\n");
+                    break;
+                default:
+                    out.append("  PUT \"/api/posts/").append(variable).append("\" {\n");
+                    out.append("    body = \"").append(body(t, body)).append("\";\n");
+                    out.append("  };\n");
+                    out.append("  expect status = 200;\n");
+                    out.append("  expect latency < 500ms;\n");
+                    break;
+            }
+            out.append("}\n\n");
+        }
+        return out.toString();
+    }
+
+    //a JSON object as a .test string literal, with escaped quotes
+    private static String body(int t, Body size) {
+        StringBuilder b = new StringBuilder("{ \\\"title\\\": \\\"Post ").append(t).append("\\\"");
+        if (size == Body.LARGE) {
+            b.append(", \\\"tags\\\": [");
+            for (int i = 0; i < 12; i++) {
+                if (i > 0) b.append(", ");
+                b.append("\\\"tag").append(i).append("\\\"");
+            }
+            b.append("], \\\"text\\\": \\\"");
+            for (int i = 0; i < 8; i++) {
+                b.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+            }
+            b.append("\\\"");
+        }
+        return b.append(" }").toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: Corpus TESTS small|large VARIABLES");
+            System.exit(2);
+        }
+        String source = generate(Integer.parseInt(args[0]), Body.valueOf(args[1].toUpperCase()),
+            Integer.parseInt(args[2]));
+        Writer out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        out.write(source);
+        out.flush();
+    }
+}
@@ -0,0 +1,24 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+//One generated source per parameter combination, shared by all threads of a benchmark.
+//Narrow the grid with e.g. -p tests=1000 -p body=SMALL.
+@State(Scope.Benchmark)
+public class CorpusState {
+    @Param({ "1", "1000", "100000" })
+    public int tests;
+
+    @Param({ "SMALL", "LARGE" })
+    public Corpus.Body body;
+
+    @Param({ "4", "1000" })
+    public int variables;
+
+    public String source;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = Corpus.generate(tests, body, variables);
+    }
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import runtime.JsonPaths;
+import runtime.JsonValue;
+
+//runtime.JsonPaths over a list response, fed in 16 KB buffers like HttpClient delivers them:
+//bytes of JSON per second. The paths are the usual checks on a list endpoint; $.total comes after
+//the array, so the whole body is read.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPathsBenchmark {
+    private static final int CHUNK = 16 * 1024;
+
+    @State(Scope.Benchmark)
+    public static class Body {
+        @Param({ "100", "10000" })
+        public int items;
+
+        public JsonPaths paths;
+        public ByteBuffer[] chunks;
+        public long bytes;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            StringBuilder json = new StringBuilder("{\"items\":[");
+            for (int i = 0; i < items; i++) {
+                if (i > 0) json.append(',');
+                json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"user ").append(i).append(" \\u00e9\"")
+                    .append(",\"tags\":[\"a\",\"b\"],\"score\":").append(i * 0.5)
+                    .append(",\"active\":").append(i % 2 == 0).append('}');
+            }
+            json.append("],\"total\":").append(items).append('}');
+            byte[] utf8 = json.toString().getBytes(StandardCharsets.UTF_8);
+            bytes = utf8.length;
+            chunks = new ByteBuffer[(utf8.length + CHUNK - 1) / CHUNK];
+            for (int i = 0; i < chunks.length; i++) {
+                int start = i * CHUNK;
+                chunks[i] = ByteBuffer.wrap(utf8, start, Math.min(CHUNK, utf8.length - start)).slice();
+            }
+            paths = new JsonPaths("$.items", "$.items[0].id", "$.items[0].name", "$.total");
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public JsonValue scan(Body body, Bytes counter) {
+        JsonPaths.Scan scan = body.paths.newScan();
+        for (ByteBuffer chunk : body.chunks) {
+            scan.feed(chunk.duplicate());
+        }
+        scan.finish();
+        counter.bytes += body.bytes;
+        return scan.value(3);
+    }
+}
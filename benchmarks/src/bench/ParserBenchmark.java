@@ -0,0 +1,32 @@
+package bench;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import ast.Program;
+
+//TestLangParser.parse, scanner included: tests per second
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Tests {
+        public long tests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tests = 0;
+        }
+    }
+
+    @Benchmark
+    public Program parse(CorpusState corpus, Tests counter) throws Throwable {
+        Program program = Compiler.parse(new StringReader(corpus.source));
+        counter.tests += program.getTests().size();
+        return program;
+    }
+}
@@ -0,0 +1,36 @@
+package bench;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Symbol;
+import org.openjdk.jmh.annotations.*;
+
+//TestLangScanner on its own: tokens per second
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScannerBenchmark {
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Tokens {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Benchmark
+    public int scan(CorpusState corpus, Tokens counter) throws Throwable {
+        Object scanner = Compiler.scanner(new StringReader(corpus.source));
+        int count = 0;
+        for (Symbol s = Compiler.nextToken(scanner); s.sym != Compiler.EOF; s = Compiler.nextToken(scanner)) {
+            count++;
+        }
+        counter.tokens += count;
+        return count;
+    }
+}
@@ -9,7 +9,7 @@ NC='\033[0m' # no color
 echo -e "${YELLOW}starting build pipeline...${NC}\n"
 
 # step 1: compile the scanner
-echo -e "${YELLOW}[1/8] compiling scanner...${NC}"
+echo -e "${YELLOW}[1/10] compiling scanner...${NC}"
 java -jar lib/jflex-full-1.9.1.jar src/TestLang.flex
 if [ $? -ne 0 ]; then
     echo -e "${RED}scanner compilation failed${NC}"
@@ -18,7 +18,7 @@ fi
 echo -e "${GREEN}scanner compiled successfully${NC}\n"
 
 # step 2: compile the parser
-echo -e "${YELLOW}[2/8] compiling parser...${NC}"
+echo -e "${YELLOW}[2/10] compiling parser...${NC}"
 java -jar lib/java-cup-11b.jar -destdir src -parser TestLangParser -symbols sym src/TestLang.cup
 if [ $? -ne 0 ]; then
     echo -e "${RED}parser compilation failed${NC}"
@@ -27,7 +27,7 @@ fi
 echo -e "${GREEN}parser compiled successfully${NC}\n"
 
 # step 3: compile ast objects
-echo -e "${YELLOW}[3/8] compiling ast objects...${NC}"
+echo -e "${YELLOW}[3/10] compiling ast objects...${NC}"
 javac -cp "lib/java-cup-11b-runtime.jar:src" -d build src/ast/*.java
 if [ $? -ne 0 ]; then
     echo -e "${RED}ast compilation failed${NC}"
@@ -36,7 +36,7 @@ fi
 echo -e "${GREEN}ast objects compiled${NC}\n"
 
 # step 4: compile the code generator
-echo -e "${YELLOW}[4/8] compiling code generator...${NC}"
+echo -e "${YELLOW}[4/10] compiling code generator...${NC}"
 javac -cp "lib/java-cup-11b-runtime.jar:src" -d build src/CodeGenerator.java
 if [ $? -ne 0 ]; then
     echo -e "${RED}code generator compilation failed${NC}"
@@ -44,26 +44,48 @@ if [ $? -ne 0 ]; then
 fi
 echo -e "${GREEN}code generator compiled${NC}\n"
 
-# step 5: compile the scanner and parser java files
-echo -e "${YELLOW}[5/8] compiling scanner and parser java files...${NC}"
-javac -cp "lib/java-cup-11b-runtime.jar:src" -d build src/TestLangScanner.java src/TestLangParser.java src/sym.java
+# step 5: compile the runtime and the interpreter
+echo -e "${YELLOW}[5/10] compiling runtime and interpreter...${NC}"
+javac -cp "lib/java-cup-11b-runtime.jar:lib/junit-platform-console-standalone-1.9.3.jar:src" -d build src/runtime/*.java src/runner/*.java
+if [ $? -ne 0 ]; then
+    echo -e "${RED}runtime/interpreter compilation failed${NC}"
+    exit 1
+fi
+jar cf build/testlang-runtime.jar -C build runtime
+echo -e "${GREEN}runtime and interpreter compiled, build/testlang-runtime.jar created${NC}\n"
+
+# step 6: compile the scanner and parser java files
+echo -e "${YELLOW}[6/10] compiling scanner and parser java files...${NC}"
+javac -cp "lib/java-cup-11b-runtime.jar:src" -d build src/TestLangScanner.java src/TestLangParser.java src/sym.java src/Diagnostic.java
 if [ $? -ne 0 ]; then
     echo -e "${RED}scanner/parser java compilation failed${NC}"
     exit 1
 fi
 echo -e "${GREEN}scanner and parser compiled${NC}\n"
 
-# step 6: compile main
-echo -e "${YELLOW}[6/8] compiling main...${NC}"
-javac -cp "lib/java-cup-11b-runtime.jar:build" -d build src/Main.java
+# step 7: compile main
+echo -e "${YELLOW}[7/10] compiling main...${NC}"
+javac -cp "lib/java-cup-11b-runtime.jar:build" -d build src/Main.java src/BatchCompiler.java src/TestLangCompiler.java src/CompilationResult.java src/Daemon.java src/DaemonClient.java src/Watcher.java
 if [ $? -ne 0 ]; then
     echo -e "${RED}main compilation failed${NC}"
     exit 1
 fi
 echo -e "${GREEN}main compiled${NC}\n"
 
-# step 7: run compiler on test file
-echo -e "${YELLOW}[7/8] compiling test file...${NC}"
+# step 8: compile one corpus on several threads through a shared TestLangCompiler; fails when a
+# result differs from the single-threaded one or, with more than one CPU, when throughput does not scale
+echo -e "${YELLOW}[8/10] checking concurrent compiles...${NC}"
+javac -cp "lib/java-cup-11b-runtime.jar:build" -d build/bench benchmarks/src/bench/ConcurrentCompile.java \
+    benchmarks/src/bench/Compiler.java benchmarks/src/bench/Corpus.java &&
+    java -cp "lib/java-cup-11b-runtime.jar:build:build/bench" bench.ConcurrentCompile --quick 200 1 2 4
+if [ $? -ne 0 ]; then
+    echo -e "${RED}concurrent compile check failed${NC}"
+    exit 1
+fi
+echo -e "${GREEN}concurrent compiles match and scale${NC}\n"
+
+# step 9: run compiler on test file
+echo -e "${YELLOW}[9/10] compiling test file...${NC}"
 java -cp "lib/java-cup-11b-runtime.jar:build" Main examples/example.test
 if [ $? -ne 0 ]; then
     echo -e "${RED}test file compilation failed${NC}"
@@ -71,18 +93,18 @@ if [ $? -ne 0 ]; then
 fi
 echo -e "${GREEN}test file compiled, GeneratedTests.java created${NC}\n"
 
-# step 8: compile generated tests
-echo -e "${YELLOW}[8/8] compiling generated tests...${NC}"
-javac -cp "lib/junit-platform-console-standalone-1.9.3.jar:." GeneratedTests.java
+# step 10: compile generated tests
+echo -e "${YELLOW}[10/10] compiling generated tests...${NC}"
+javac -cp "lib/junit-platform-console-standalone-1.9.3.jar:build/testlang-runtime.jar:." Generated*.java
 if [ $? -ne 0 ]; then
     echo -e "${RED}generated tests compilation failed${NC}"
     exit 1
 fi
 echo -e "${GREEN}generated tests compiled${NC}\n"
 
-# step 9: run the tests
+# step 11: run the tests
 echo -e "${YELLOW}running tests against backend...${NC}\n"
-java -jar lib/junit-platform-console-standalone-1.9.3.jar --class-path . --scan-class-path
+java -jar lib/junit-platform-console-standalone-1.9.3.jar --class-path .:build/testlang-runtime.jar --scan-class-path .
 
 if [ $? -eq 0 ]; then
     echo -e "\n${GREEN}all tests passed!${NC}"
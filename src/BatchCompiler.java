@@ -0,0 +1,250 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+//Compiles many .test files at once. Every file gets its own scanner, parser and generator, so the
+//files are scanned, parsed and generated side by side on a ForkJoinPool with nothing shared between
+//them; each file becomes its own test class named after the file (login.test -> LoginTests).
+public class BatchCompiler {
+    public static class FileResult {
+        private final Path source;
+        private final String className;
+        private final CompilationResult compilation;
+        private final long nanos;
+
+        FileResult(Path source, String className, CompilationResult compilation, long nanos) {
+            this.source = source;
+            this.className = className;
+            this.compilation = compilation;
+            this.nanos = nanos;
+        }
+
+        public Path getSource() { return source; }
+        public String getClassName() { return className; }
+        public boolean isSuccessful() { return compilation.isSuccessful(); }
+        public List<Diagnostic> getDiagnostics() { return compilation.getDiagnostics(); }
+        public List<String> getClassNames() { return compilation.getClassNames(); }
+        public int getTests() { return compilation.getTests(); }
+        public int getLoads() { return compilation.getLoads(); }
+        public long getNanos() { return nanos; }
+        public Map<String, String> getJUnitProperties() { return compilation.getJUnitProperties(); }
+    }
+
+    private final Path outDir;
+    private final TestLangCompiler compiler;
+
+    public BatchCompiler(Path outDir, int shardTests, long shardBytes) {
+        this.outDir = outDir;
+        this.compiler = new TestLangCompiler(CodeGenerator.CLASS_NAME, shardTests, shardBytes);
+    }
+
+    //Expands the arguments into .test files: plain files are taken as they are, directories are
+    //searched recursively, and anything with * ? [ or { is matched as a glob ("suites/**/*.test").
+    //Relative arguments are resolved against workDir.
+    public static List<Path> discover(Path workDir, List<String> args) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String arg : args) {
+            if (isGlob(arg)) {
+                files.addAll(expandGlob(workDir, arg));
+            } else {
+                Path path = workDir.resolve(arg);
+                if (Files.isDirectory(path)) {
+                    files.addAll(walk(path, p -> p.getFileName().toString().endsWith(".test")));
+                } else if (Files.exists(path)) {
+                    files.add(path.normalize());
+                } else {
+                    throw new FileNotFoundException(arg);
+                }
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static boolean isGlob(String arg) {
+        return arg.indexOf('*') >= 0 || arg.indexOf('?') >= 0
+            || arg.indexOf('[') >= 0 || arg.indexOf('{') >= 0;
+    }
+
+    private static List<Path> expandGlob(Path workDir, String glob) throws IOException {
+        //walk from the longest directory prefix without wildcards
+        String[] parts = glob.split("/", -1);
+        StringBuilder base = new StringBuilder();
+        for (int i = 0; i < parts.length - 1 && !isGlob(parts[i]); i++) {
+            base.append(parts[i]).append('/');
+        }
+        Path root = workDir.resolve(base.length() == 0 ? "." : base.toString());
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        //relative to root, so "**/" also matches files directly in it
+        String pattern = glob.substring(base.length());
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        PathMatcher nested = pattern.startsWith("**/")
+            ? FileSystems.getDefault().getPathMatcher("glob:" + pattern.substring(3)) : matcher;
+        return walk(root, p -> {
+            Path rel = root.relativize(p);
+            return matcher.matches(rel) || nested.matches(rel);
+        });
+    }
+
+    private static List<Path> walk(Path root, PathMatcher filter) throws IOException {
+        List<Path> found = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && filter.matches(file)) {
+                    found.add(file.normalize());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(found);
+        return found;
+    }
+
+    //login.test -> LoginTests, user-api.test -> UserApiTests; on a clash the parent directory is
+    //added (admin/login.test -> AdminLoginTests), then a number
+    public static List<String> classNames(List<Path> files) {
+        List<String> names = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            int dot = fileName.lastIndexOf('.');
+            String stem = toIdentifier(dot > 0 ? fileName.substring(0, dot) : fileName);
+
+            String candidate = stem + "Tests";
+            if (used.contains(candidate) && file.toAbsolutePath().getParent().getFileName() != null) {
+                stem = toIdentifier(file.toAbsolutePath().getParent().getFileName().toString()) + stem;
+                candidate = stem + "Tests";
+            }
+            for (int n = 2; used.contains(candidate); n++) {
+                candidate = stem + n + "Tests";
+            }
+            used.add(candidate);
+            names.add(candidate);
+        }
+        return names;
+    }
+
+    private static String toIdentifier(String text) {
+        StringBuilder name = new StringBuilder();
+        for (String part : text.split("[^A-Za-z0-9]+")) {
+            if (part.isEmpty()) continue;
+            name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        if (name.length() == 0 || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name.insert(0, "Test");
+        }
+        return name.toString();
+    }
+
+    //Drops classes an earlier run generated for these files that this run no longer produces,
+    //e.g. LoginTests.java after switching to shards, or Login3Tests.java after fewer shards.
+    //Files with errors keep their previous output.
+    public void deleteStale(List<FileResult> results) throws IOException {
+        Set<String> produced = new HashSet<>();
+        List<String> patterns = new ArrayList<>();
+        for (FileResult r : results) {
+            if (!r.isSuccessful()) continue;
+            produced.addAll(r.getClassNames());
+            String className = Pattern.quote(r.getClassName());
+            String prefix = Pattern.quote(
+                r.getClassName().substring(0, r.getClassName().length() - "Tests".length()));
+            patterns.add(className + "|" + className + "Base|" + prefix + "\\d+Tests");
+        }
+        if (patterns.isEmpty()) return;
+        String stale = String.join("|", patterns);
+        try (DirectoryStream<Path> old = Files.newDirectoryStream(outDir.toAbsolutePath(), "*Tests*.java")) {
+            for (Path p : old) {
+                String name = p.getFileName().toString().replace(".java", "");
+                if (name.matches(stale) && !produced.contains(name)) {
+                    Files.delete(p);
+                }
+            }
+        }
+    }
+
+    //Results come back in the order of files; threads <= 0 uses one per processor
+    public List<FileResult> compileAll(List<Path> files, int threads) throws Exception {
+        List<String> names = classNames(files);
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : new ForkJoinPool();
+        try {
+            List<ForkJoinTask<FileResult>> tasks = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                String className = names.get(i);
+                tasks.add(pool.submit(() -> compile(file, className)));
+            }
+            List<FileResult> results = new ArrayList<>();
+            for (ForkJoinTask<FileResult> task : tasks) {
+                try {
+                    results.add(task.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    //Streams one file into its class(es) like the single-file mode: written to .partial files
+    //first and only moved into place once the whole file compiled without errors
+    private FileResult compile(Path file, String className) throws IOException {
+        long start = System.nanoTime();
+        List<Path> partials = new ArrayList<>();
+        CompilationResult compilation;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            compilation = compiler.withClassName(className).compile(reader, file.toString(), name -> {
+                Path partial = outDir.resolve(name + ".java.partial");
+                partial.toFile().deleteOnExit();
+                partials.add(partial);
+                return Files.newBufferedWriter(partial, StandardCharsets.UTF_8);
+            });
+        }
+
+        if (compilation.isSuccessful()) {
+            for (String name : compilation.getClassNames()) {
+                Files.move(outDir.resolve(name + ".java.partial"), outDir.resolve(name + ".java"),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        } else {
+            for (Path partial : partials) {
+                Files.deleteIfExists(partial);
+            }
+        }
+        return new FileResult(file, className, compilation, System.nanoTime() - start);
+    }
+
+    public static void printSummary(PrintStream out, List<FileResult> results, long elapsedNanos, int threads) {
+        int width = 4;
+        for (FileResult r : results) {
+            width = Math.max(width, r.getSource().toString().length());
+        }
+        int tests = 0;
+        int failed = 0;
+        out.println();
+        for (FileResult r : results) {
+            tests += r.getTests();
+            String classes;
+            if (!r.isSuccessful()) {
+                failed++;
+                classes = "❌ " + r.getDiagnostics().size() + " error(s)";
+            } else if (r.getClassNames().size() == 1) {
+                classes = r.getClassName() + ".java";
+            } else {
+                classes = r.getClassName() + " (" + r.getClassNames().size() + " classes)";
+            }
+            out.println(String.format("   %-" + width + "s %6d tests %8.1f ms   -> %s",
+                r.getSource(), r.getTests(), r.getNanos() / 1e6, classes));
+        }
+        out.println(String.format("%s Compiled %d files, %d tests in %.1f ms on %d thread%s",
+            failed == 0 ? "✅" : "❌", results.size(), tests, elapsedNanos / 1e6, threads,
+            threads == 1 ? "" : "s") + (failed == 0 ? "" : ", " + failed + " with errors"));
+    }
+}
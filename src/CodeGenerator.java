@@ -1,177 +1,553 @@
 import ast.*;
+import java.io.*;
 import java.util.List;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.Set;
+import runtime.RequestSpec;
 
 public class CodeGenerator {
-    private StringBuilder code = new StringBuilder();
+    public static final String CLASS_NAME = "GeneratedTests";
+    public static final String BASE_CLASS_NAME = "GeneratedTestsBase";
+    public static final String PARALLELISM_PROPERTY = "junit.jupiter.execution.parallel.config.fixed.parallelism";
+
+    //Opens the writer for one generated class; the generator closes it when the class is done
+    public interface SourceSink {
+        Writer open(String className) throws IOException;
+    }
+
+    private StringBuilder code = new StringBuilder();     // output not yet written, at most one test
+    private StringBuilder fields = new StringBuilder();   // static finals used by the current test
+    private SourceSink sink;
+    private Writer out;
+    private boolean ownsWriter;
+    private boolean started = false;
     private Program prog;
-    private Map<String, String> vars = new HashMap<>();
-    private boolean respBodyNormalized = false;
+    private int bodyPatternIndex;                         // next pattern of the current request's matcher
+    private int bodyMatcherCount = 0;
+    private int requestCount;                             // requests so far in the current test
+    private String resp = "resp";                         // local holding the current request's response
+    private List<String> jsonPaths = new ArrayList<>();   // paths of the current request's matcher
+    private final Map<String, List<String>> namedJsonPaths = new HashMap<>();     // same for named responses
+    private final Map<String, Integer> namedBodyPatternIndex = new HashMap<>();
+    private int parallelCount;                            // parallel blocks so far in the current test
+    private final Set<String> captured = new HashSet<>(); // names already declared in the current test
+    private final Map<String, String> constants = new HashMap<>(); // initializer -> field of the current class
+    private final Map<String, Integer> constantCounts = new HashMap<>(); // next number per name prefix
+    private String className = CLASS_NAME;
+
+    //sharding: 0 = no limit; with a limit, tests are split over Generated1Tests, Generated2Tests, ...
+    //that share GeneratedTestsBase (named after the class name, e.g. Login1Tests and LoginTestsBase
+    //for LoginTests), keeping each class's constant pool and javac time small.
+    //Shard names end in "Tests" so the JUnit console launcher's default class name filter finds them
+    private int maxTestsPerClass = 0;
+    private long maxCharsPerClass = 0;
+    private int shardCount = 0;
+    private int testsInShard = 0;
+    private long charsInShard = 0;
+
+    public void setShardLimits(int maxTestsPerClass, long maxCharsPerClass) {
+        this.maxTestsPerClass = maxTestsPerClass;
+        this.maxCharsPerClass = maxCharsPerClass;
+    }
+
+    //Name of the generated class; should end in "Tests" for the same reason as the shard names
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public static String shardName(int shard) {
+        return shardName(CLASS_NAME, shard);
+    }
+
+    public static String shardName(String className, int shard) {
+        String prefix = className.endsWith("Tests")
+            ? className.substring(0, className.length() - "Tests".length()) : className;
+        return prefix + shard + "Tests";
+    }
+
+    public static String baseClassName(String className) {
+        return className + "Base";
+    }
+
+    public boolean isSharded() {
+        return maxTestsPerClass > 0 || maxCharsPerClass > 0;
+    }
 
     public String generate(Program program){
+        return generateSources(program).get(className);
+    }
+
+    //All generated classes by name; one class unless shard limits are set
+    public Map<String, String> generateSources(Program program) {
+        Map<String, StringWriter> writers = new LinkedHashMap<>();
+        try {
+            start(program, className -> {
+                StringWriter w = new StringWriter();
+                writers.put(className, w);
+                return w;
+            });
+            for (Test t : program.getTests()) {
+                addTest(t);
+            }
+            finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, String> sources = new LinkedHashMap<>();
+        writers.forEach((name, w) -> sources.put(name, w.toString()));
+        return sources;
+    }
+
+    //Streaming use: program must hold the config and variables by the first addTest, its test
+    //list is not read. Each test is written to out as soon as it is generated.
+    public void start(Program program, Writer out) {
+        if (isSharded()) {
+            throw new IllegalStateException("sharded output needs a SourceSink");
+        }
+        reset();
         this.prog = program;
-        
-        collectVariables(program.getVariables());
-        generateClassStructure();
-        
-        for (Test t : prog.getTests()) {
-            generateTestMethod(t);
-        }
-        
-        code.append("}\n");
-        return code.toString();
+        this.out = out;
+        this.ownsWriter = false;
+    }
+
+    public void start(Program program, SourceSink sink) {
+        reset();
+        this.prog = program;
+        this.sink = sink;
+        this.ownsWriter = true;
     }
 
-    private void collectVariables(List<Variable> variables) {
-        for (Variable v : variables) {
-            vars.put(v.getName(), v.getValue());
+    //Stops a generation that will not be finished (e.g. the source has errors) and closes the
+    //writer it owns; what was already written is left to the caller
+    public void abort() {
+        try {
+            if (ownsWriter && out != null) {
+                out.close();
+            }
+        } catch (IOException e) {
+            //nothing useful to do, the output is discarded anyway
         }
+        out = null;
     }
 
-    private void generateClassStructure() {
-        code.append("import org.junit.jupiter.api.*;\n");
-        code.append("import static org.junit.jupiter.api.Assertions.*;\n");
-        code.append("import java.net.http.*;\n");
-        code.append("import java.net.*;\n");
-        code.append("import java.time.Duration;\n");
-        code.append("import java.nio.charset.StandardCharsets;\n");
-        code.append("import java.util.*;\n\n");
-
-        code.append("public class GeneratedTests {\n");
-        code.append("  private static String baseUrl = \"\";\n");
-        code.append("  private static Map<String,String> globalHeaders = new HashMap<>();\n");
-        code.append("  private static HttpClient httpClient;\n\n");
-
-        code.append("  @BeforeAll\n");
-        code.append("  static void init() {\n");
-        code.append("    httpClient = HttpClient.newBuilder()\n");
-        code.append("      .version(HttpClient.Version.HTTP_1_1)\n");
-        code.append("      .connectTimeout(Duration.ofSeconds(5))\n");
-        code.append("      .build();\n");
-
-        if (prog.getConfig() != null) {
-            Config config = prog.getConfig();
-            if (config.getBaseUrl() != null) {
-                code.append("    baseUrl = \"").append(sanitize(config.getBaseUrl())).append("\";\n");
+    //every start begins from a clean slate, so one generator can be reused for several programs
+    //(one at a time: a generator is not safe for concurrent use, create one per thread)
+    private void reset() {
+        code.setLength(0);
+        fields.setLength(0);
+        sink = null;
+        out = null;
+        started = false;
+        bodyPatternIndex = 0;
+        bodyMatcherCount = 0;
+        constants.clear();
+        constantCounts.clear();
+        shardCount = 0;
+        testsInShard = 0;
+        charsInShard = 0;
+    }
+
+    public void addTest(Test test) throws IOException {
+        ensureStarted();
+        if (isSharded() && testsInShard > 0
+                && ((maxTestsPerClass > 0 && testsInShard >= maxTestsPerClass)
+                    || (maxCharsPerClass > 0 && charsInShard >= maxCharsPerClass))) {
+            closeClass();
+            openShard();
+        }
+        generateTestMethod(test);
+        testsInShard++;
+        flush();
+    }
+
+    public void finish() throws IOException {
+        ensureStarted();
+        closeClass();
+    }
+
+    private void ensureStarted() throws IOException {
+        if (started) return;
+        started = true;
+        if (isSharded()) {
+            out = sink.open(baseClassName(className));
+            generateBaseClass();
+            closeClass();
+            openShard();
+        } else {
+            if (out == null) {
+                out = sink.open(className);
             }
+            generateClassStructure(className, null);
+            generateSharedFields("private");
+            flush();
+        }
+    }
+
+    private void openShard() throws IOException {
+        shardCount++;
+        String name = shardName(className, shardCount);
+        out = sink.open(name);
+        testsInShard = 0;
+        charsInShard = 0;
+        constants.clear();
+        generateClassStructure(name, baseClassName(className));
+        flush();
+    }
+
+    private void closeClass() throws IOException {
+        code.append("}\n");
+        flush();
+        out.flush();
+        if (ownsWriter) {
+            out.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        charsInShard += code.length();
+        out.append(code);
+        code.setLength(0);
+    }
+
+    private void generateClassStructure(String className, String superClass) {
+        Config config = prog.getConfig();
+        boolean parallel = config != null && config.isParallel();
+
+        code.append("import org.junit.jupiter.api.*;\n");
+        if (parallel) {
+            code.append("import org.junit.jupiter.api.parallel.*;\n");
+        }
+        code.append("import java.util.*;\n");
+        code.append("import runtime.*;\n\n");
+
+        if (parallel) {
+            code.append("@Execution(ExecutionMode.CONCURRENT)\n");
+        }
+        code.append("public class ").append(className);
+        if (superClass != null) {
+            code.append(" extends ").append(superClass);
+        }
+        code.append(" {\n");
+    }
+
+    //Setup shared by all shards, so it is built once per JVM rather than once per class
+    private void generateBaseClass() {
+        code.append("import java.util.*;\n");
+        code.append("import runtime.*;\n\n");
+        code.append("public abstract class ").append(baseClassName(className)).append(" {\n");
+        generateSharedFields("protected");
+    }
+
+    private void generateSharedFields(String access) {
+        Config config = prog.getConfig();
+
+        //static finals are safely published and never mutated, so tests can share them across threads
+        String baseUrl = (config != null && config.getBaseUrl() != null) ? config.getBaseUrl() : "";
+        code.append("  ").append(access).append(" static final String baseUrl = \"")
+            .append(sanitize(baseUrl)).append("\";\n");
+        code.append("  ").append(access).append(" static final Map<String,String> globalHeaders = Map.ofEntries(");
+        if (config != null) {
+            boolean first = true;
             for (Map.Entry<String, String> h : config.getDefaultHeaders().entrySet()) {
-                code.append("    globalHeaders.put(\"").append(sanitize(h.getKey()))
-                    .append("\", \"").append(sanitize(h.getValue())).append("\");\n");
+                code.append(first ? "\n" : ",\n");
+                code.append("    Map.entry(\"").append(sanitize(h.getKey()))
+                    .append("\", \"").append(sanitize(h.getValue())).append("\")");
+                first = false;
             }
         }
+        code.append(");\n");
+        //the client for the config's http_version, max_connections, connect_timeout and executor;
+        //suites with the same settings share it
+        code.append("  ").append(access).append(" static final java.net.http.HttpClient client = Http.client(");
+        if (config != null && !config.hasDefaultClient()) {
+            code.append("new ClientSettings(").append(config.isHttp2()).append(", ")
+                .append(config.getMaxConnections()).append(", ").append(config.getConnectTimeoutMillis())
+                .append("L, ").append(config.isVirtualThreads()).append(")");
+        }
+        code.append(");\n\n");
+    }
 
-        code.append("  }\n\n");
+    //JUnit configuration parameters the generated class needs; empty unless tests run in parallel
+    public Map<String, String> getJUnitProperties() {
+        Map<String, String> props = new LinkedHashMap<>();
+        Config config = prog != null ? prog.getConfig() : null;
+        if (config != null && config.isParallel()) {
+            props.put("junit.jupiter.execution.parallel.enabled", "true");
+            props.put("junit.jupiter.execution.parallel.config.strategy", "fixed");
+            props.put(PARALLELISM_PROPERTY, String.valueOf(config.getParallelism()));
+        }
+        return props;
     }
 
     private void generateTestMethod(Test test) {
+        int methodStart = code.length();
         code.append("  @Test\n");
         code.append("  void test").append(test.getName()).append("() throws Exception {\n");
-        respBodyNormalized = false;
+        bodyPatternIndex = 0;
+        requestCount = 0;
+        parallelCount = 0;
+        captured.clear();
+        namedJsonPaths.clear();
+        namedBodyPatternIndex.clear();
 
-        for (Statement s : test.getStatements()) {
+        List<Statement> stmts = test.getStatements();
+        for (int i = 0; i < stmts.size(); i++) {
+            Statement s = stmts.get(i);
             if (s instanceof Request) {
-                handleRequest((Request) s);
+                handleRequest((Request) s, bodyPatterns(stmts, i, null), ResponseChecks.jsonPaths(stmts, i, null));
+            } else if (s instanceof Parallel) {
+                handleParallel((Parallel) s, stmts, i);
             } else if (s instanceof Assertion) {
                 handleAssertion((Assertion) s);
+            } else if (s instanceof Capture) {
+                handleCapture((Capture) s);
             }
         }
 
         code.append("  }\n\n");
+
+        //fields such as body matchers go right above the method that uses them
+        if (fields.length() > 0) {
+            code.insert(methodStart, fields.append("\n"));
+            fields.setLength(0);
+        }
+    }
+
+    //expected texts of the body-contains checks of the request at index, let variables filled in
+    private List<String> bodyPatterns(List<Statement> stmts, int index, String name) {
+        List<String> patterns = new ArrayList<>();
+        for (String text : ResponseChecks.bodyPatterns(stmts, index, name)) {
+            patterns.add(interpolate(text));
+        }
+        return patterns;
+    }
+
+    private void handleRequest(Request r, List<String> bodyPatterns, List<String> jsonPaths) {
+        //every request of a test gets its own local: resp, resp2, resp3, ...
+        requestCount++;
+        resp = requestCount == 1 ? "resp" : "resp" + requestCount;
+        String request = requestSpec(r);
+        bodyPatternIndex = 0;
+        this.jsonPaths = jsonPaths;
+        String matcher = bodyMatcher(bodyPatterns, jsonPaths);
+        code.append("    var ").append(resp).append(" = Http.send(client, ").append(request)
+            .append(matcher != null ? ", " + matcher : "").append(");\n");
+    }
+
+    //parallel { user = GET "..."; ... }: every request is sent before any response is waited for;
+    //a named response gets the local resp_name, which expect user ... and let x = user json ... use
+    private void handleParallel(Parallel p, List<Statement> stmts, int index) {
+        String sent = "parallel" + ++parallelCount;
+        StringBuilder specs = new StringBuilder();
+        StringBuilder matchers = new StringBuilder();
+        for (Request r : p.getRequests()) {
+            String name = r.getName();
+            List<String> paths = name != null ? ResponseChecks.jsonPaths(stmts, index, name) : new ArrayList<>();
+            String matcher = name != null ? bodyMatcher(bodyPatterns(stmts, index, name), paths) : null;
+            if (name != null) {
+                namedJsonPaths.put(name, paths);
+                namedBodyPatternIndex.put(name, 0);
+            }
+            specs.append(specs.length() > 0 ? ",\n        " : "\n        ").append(requestSpec(r));
+            matchers.append(matchers.length() > 0 ? ", " : "").append(matcher != null ? matcher : "BodyMatcher.NONE");
+        }
+        code.append("    var ").append(sent).append(" = Http.sendAll(client, new RequestSpec[] {").append(specs)
+            .append(" },\n      new BodyMatcher[] { ").append(matchers).append(" });\n");
+        for (int i = 0; i < p.getRequests().size(); i++) {
+            String name = p.getRequests().get(i).getName();
+            if (name != null) {
+                code.append("    var resp_").append(name).append(" = ").append(sent).append("[").append(i).append("];\n");
+            }
+        }
     }
 
-    private void handleRequest(Request r) {
-        String endpoint = replaceVariables(r.getPath());
-        
+    //the RequestSpec expression for r: a shared constant unless it uses captured values
+    private String requestSpec(Request r) {
+        Template endpoint = bind(r.getPath());
+        String path = expression(endpoint);
         String fullUrl;
-        if (endpoint.startsWith("/")) {
-            fullUrl = "baseUrl + \"" + sanitize(endpoint) + "\"";
+        if (endpoint.getLiterals().get(0).startsWith("/")) {
+            fullUrl = "baseUrl + " + path;
+        } else if (endpoint.getLiterals().get(0).isEmpty() && !endpoint.isConstant()) {
+            //starts with a captured value: only known to be a path or a full url at run time
+            fullUrl = "(" + path + ").startsWith(\"/\") ? baseUrl + " + path + " : " + path;
         } else {
-            fullUrl = "\"" + sanitize(endpoint) + "\"";
+            fullUrl = path;
         }
 
-        code.append("    System.out.println(\"-> ").append(r.getMethod())
-            .append(" \" + ").append(fullUrl).append(");\n");
-        code.append("    var reqBuilder = HttpRequest.newBuilder(URI.create(")
-            .append(fullUrl).append("))\n");
-        code.append("      .timeout(Duration.ofSeconds(10))\n");
+        Template body = null;
+        if (r.getMethod() == HttpMethod.POST || r.getMethod() == HttpMethod.PUT) {
+            body = bind(r.getBody() != null ? r.getBody() : "");
+        }
+        String bodyExpr = body == null ? "null"
+            : body.isConstant() && !body.getLiterals().get(0).isEmpty()
+                ? constant("String", "body", expression(body)) : expression(body);
 
-        switch (r.getMethod()) {
-            case GET:
-                code.append("      .GET();\n");
-                break;
-            case POST:
-                String postData = replaceVariables(r.getBody());
-                code.append("      .POST(HttpRequest.BodyPublishers.ofString(\"")
-                    .append(sanitize(postData)).append("\"));\n");
-                code.append("    System.out.println(\"    payload: \" + \"")
-                    .append(sanitize(postData)).append("\");\n");
-                break;
-            case PUT:
-                String putData = replaceVariables(r.getBody());
-                code.append("      .PUT(HttpRequest.BodyPublishers.ofString(\"")
-                    .append(sanitize(putData)).append("\"));\n");
-                code.append("    System.out.println(\"    payload: \" + \"")
-                    .append(sanitize(putData)).append("\");\n");
-                break;
-            case DELETE:
-                code.append("      .DELETE();\n");
-                break;
+        //config headers, Accept and the request's own headers are merged here rather than on every
+        //send, unless a header value is only known once an earlier response is in
+        Map<String, Template> own = new LinkedHashMap<>();
+        boolean constantHeaders = true;
+        for (Map.Entry<String, String> hdr : r.getHeaders().entrySet()) {
+            Template value = bind(hdr.getValue());
+            own.put(hdr.getKey(), value);
+            constantHeaders &= value.isConstant();
         }
+        StringBuilder spec = new StringBuilder("RequestSpec.of(\"").append(r.getMethod()).append("\", ")
+            .append(fullUrl).append(", ").append(bodyExpr).append(", ");
+        if (constantHeaders) {
+            Map<String, String> merged = new LinkedHashMap<>();
+            Config config = prog.getConfig();
+            if (config != null) {
+                config.getDefaultHeaders().forEach((name, value) -> RequestSpec.putHeader(merged, name, value));
+            }
+            RequestSpec.putHeader(merged, "Accept", "application/json");
+            own.forEach((name, value) -> RequestSpec.putHeader(merged, name, value.getLiterals().get(0)));
+            StringBuilder headers = new StringBuilder("RequestSpec.headers(");
+            boolean first = true;
+            for (Map.Entry<String, String> hdr : merged.entrySet()) {
+                headers.append(first ? "\n      \"" : ",\n      \"").append(sanitize(hdr.getKey()))
+                    .append("\", \"").append(sanitize(hdr.getValue())).append("\"");
+                first = false;
+            }
+            spec.append(constant("Map<String,String>", "headers", headers.append(")").toString()));
+        } else {
+            spec.append("globalHeaders");
+            own.forEach((name, value) -> spec.append(",\n        \"").append(sanitize(name)).append("\", ")
+                .append(expression(value)));
+        }
+        spec.append(")");
 
-        code.append("    globalHeaders.forEach((k, v) -> reqBuilder.header(k, v));\n");
-        code.append("    reqBuilder.header(\"Accept\", \"application/json\");\n");
+        //a request with nothing captured is one static spec, so its HttpRequest is built once and
+        //shared by every run of every test that sends it
+        String request = spec.toString();
+        if (constantHeaders && endpoint.isConstant() && (body == null || body.isConstant())) {
+            request = constant("RequestSpec", "request", request);
+        }
+        return request;
+    }
 
-        for (Map.Entry<String, String> hdr : r.getHeaders().entrySet()) {
-            code.append("    reqBuilder.header(\"").append(sanitize(hdr.getKey()))
-                .append("\", \"").append(sanitize(hdr.getValue())).append("\");\n");
+    //body-contains checks and json captures are compiled into one matcher that runs while the body
+    //arrives; null when the response has nothing to check in its body
+    private String bodyMatcher(List<String> bodyPatterns, List<String> jsonPaths) {
+        String bodyMatcher = null;
+        if (!bodyPatterns.isEmpty() || !jsonPaths.isEmpty()) {
+            bodyMatcher = "bodyMatcher" + bodyMatcherCount++;
+            fields.append("  private static final BodyMatcher ").append(bodyMatcher)
+                .append(" = new BodyMatcher(");
+            if (!jsonPaths.isEmpty()) {
+                fields.append("new JsonPaths(");
+                for (int i = 0; i < jsonPaths.size(); i++) {
+                    if (i > 0) fields.append(", ");
+                    fields.append("\"").append(sanitize(jsonPaths.get(i))).append("\"");
+                }
+                fields.append(")").append(bodyPatterns.isEmpty() ? "" : ", ");
+            }
+            for (int i = 0; i < bodyPatterns.size(); i++) {
+                if (i > 0) fields.append(", ");
+                fields.append("\"").append(sanitize(bodyPatterns.get(i))).append("\"");
+            }
+            fields.append(");\n");
         }
+        return bodyMatcher;
+    }
 
-        code.append("    var resp = httpClient.send(reqBuilder.build(), ")
-            .append("HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));\n");
-        code.append("    System.out.println(\"<- status: \" + resp.statusCode());\n");
-        code.append("    System.out.println(resp.body());\n\n");
-        
-        respBodyNormalized = false;
+    //a static final of the current class initialized to init, declared above the test that first
+    //needs it; later tests with the same initializer reuse it
+    private String constant(String type, String prefix, String init) {
+        String name = constants.get(init);
+        if (name == null) {
+            int n = constantCounts.merge(prefix, 1, Integer::sum) - 1;
+            name = prefix + n;
+            fields.append("  private static final ").append(type).append(" ").append(name)
+                .append(" = ").append(init).append(";\n");
+            constants.put(init, name);
+        }
+        return name;
+    }
+
+    //let token = json "$.token"; becomes a local $token, so it cannot clash with generated names
+    private void handleCapture(Capture c) {
+        String resp = c.getTarget() == null ? this.resp : "resp_" + c.getTarget();
+        List<String> jsonPaths = c.getTarget() == null ? this.jsonPaths : namedJsonPaths.get(c.getTarget());
+        code.append("    ").append(captured.add(c.getName()) ? "String " : "").append("$").append(c.getName())
+            .append(" = ").append(resp).append(".body().capture(").append(jsonPaths.indexOf(c.getPath())).append(");\n");
     }
 
     private void handleAssertion(Assertion a) {
+        String target = a.getTarget();
+        String resp = target == null ? this.resp : "resp_" + target;
+        List<String> jsonPaths = target == null ? this.jsonPaths : namedJsonPaths.get(target);
+        code.append("    Expect.");
         switch (a.getType()) {
             case STATUS:
-                code.append("    assertEquals(").append(a.getStatusCode())
-                    .append(", resp.statusCode());\n");
+                code.append("status(").append(resp).append(", ").append(a.getStatusCode());
                 break;
             case BODY_CONTAINS:
-                if (!respBodyNormalized) {
-                    code.append("    var cleanBody = resp.body()")
-                        .append(".replaceAll(\"\\\\s+\", \"\");\n");
-                    respBodyNormalized = true;
-                }
-                String searchText = sanitize(a.getExpectedValue()).replaceAll("\\s+", "");
-                code.append("    assertTrue(cleanBody.contains(\"")
-                    .append(searchText).append("\"));\n");
+                //patterns were registered with the request's matcher in declaration order
+                code.append("bodyContains(").append(resp).append(", ")
+                    .append(target == null ? bodyPatternIndex++ : namedBodyPatternIndex.merge(target, 1, Integer::sum) - 1);
                 break;
             case HEADER_EQUALS:
-                code.append("    assertEquals(\"").append(sanitize(a.getExpectedValue()))
-                    .append("\", resp.headers().firstValue(\"")
-                    .append(sanitize(a.getHeaderName())).append("\").orElse(\"\"));\n");
+                code.append("header(").append(resp).append(", \"").append(sanitize(a.getHeaderName()))
+                    .append("\", \"").append(sanitize(interpolate(a.getExpectedValue()))).append("\"");
                 break;
             case HEADER_CONTAINS:
-                code.append("    assertTrue(resp.headers().firstValue(\"")
-                    .append(sanitize(a.getHeaderName())).append("\").orElse(\"\").contains(\"")
-                    .append(sanitize(a.getExpectedValue())).append("\"));\n");
+                code.append("headerContains(").append(resp).append(", \"").append(sanitize(a.getHeaderName()))
+                    .append("\", \"").append(sanitize(interpolate(a.getExpectedValue()))).append("\"");
+                break;
+            case LATENCY_BELOW:
+                code.append("latencyBelow(").append(resp).append(", ").append(a.getLimitMillis());
+                break;
+            case TTFB_BELOW:
+                code.append("ttfbBelow(").append(resp).append(", ").append(a.getLimitMillis());
+                break;
+            case JSON_EQUALS:
+                //looked up by the request's matcher while the body arrived, like body contains
+                String expected = a.isExpectString() ? interpolate(a.getExpectedValue()) : a.getExpectedValue();
+                code.append("json(").append(resp).append(", ").append(jsonPaths.indexOf(a.getJsonPath()))
+                    .append(", \"").append(sanitize(expected)).append("\", ").append(a.isExpectString());
+                break;
+            case JSON_SIZE:
+                code.append("jsonSize(").append(resp).append(", ").append(jsonPaths.indexOf(a.getJsonPath()))
+                    .append(", ").append(a.getExpectedSize());
                 break;
         }
+        code.append(");\n");
     }
 
-    private String replaceVariables(String text) {
+    //fills in $name / ${name} from the program's let variables
+    private String interpolate(String text) {
         if (text == null) return null;
-        
-        String result = text;
-        for (Map.Entry<String, String> v : vars.entrySet()) {
-            result = result.replace("$" + v.getKey(), v.getValue());
+        return Template.parse(text).render(prog.getVariableValues());
+    }
+
+    private Template bind(String text) {
+        return Template.parse(text).bind(prog.getVariableValues());
+    }
+
+    //Java expression for a template whose let variables are bound: a string literal, or literals
+    //joined with the $name locals of values captured earlier in the test
+    private String expression(Template t) {
+        List<String> literals = t.getLiterals();
+        List<String> names = t.getNames();
+        StringBuilder e = new StringBuilder();
+        for (int i = 0; i <= names.size(); i++) {
+            if (i > 0) {
+                e.append(e.length() > 0 ? " + $" : "$").append(names.get(i - 1));
+            }
+            if (!literals.get(i).isEmpty() || names.isEmpty()) {
+                e.append(e.length() > 0 ? " + \"" : "\"").append(sanitize(literals.get(i))).append("\"");
+            }
         }
-        return result;
+        return e.toString();
     }
 
     private String sanitize(String str) {
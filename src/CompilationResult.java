@@ -0,0 +1,42 @@
+import java.util.*;
+import ast.Program;
+
+//Outcome of one TestLangCompiler call. Immutable, so it can be handed to other threads as is.
+public final class CompilationResult {
+    private final Program program;
+    private final List<Diagnostic> diagnostics;
+    private final Map<String, String> sources;
+    private final List<String> classNames;
+    private final int tests;
+    private final int loads;
+    private final Map<String, String> junitProperties;
+
+    CompilationResult(Program program, List<Diagnostic> diagnostics, Map<String, String> sources,
+                      List<String> classNames, int tests, int loads, Map<String, String> junitProperties) {
+        this.program = program;
+        this.diagnostics = Collections.unmodifiableList(new ArrayList<>(diagnostics));
+        this.sources = Collections.unmodifiableMap(new LinkedHashMap<>(sources));
+        this.classNames = Collections.unmodifiableList(new ArrayList<>(classNames));
+        this.tests = tests;
+        this.loads = loads;
+        this.junitProperties = Collections.unmodifiableMap(new LinkedHashMap<>(junitProperties));
+    }
+
+    public boolean isSuccessful() {
+        for (Diagnostic d : diagnostics) {
+            if (d.isError()) return false;
+        }
+        return true;
+    }
+
+    //null when the source has errors; after a generating compile it only holds config, variables
+    //and loads, the tests were streamed into the generator
+    public Program getProgram() { return program; }
+    public List<Diagnostic> getDiagnostics() { return diagnostics; }
+    //generated source by class name; empty when the classes went to a SourceSink or on errors
+    public Map<String, String> getSources() { return sources; }
+    public List<String> getClassNames() { return classNames; }
+    public int getTests() { return tests; }
+    public int getLoads() { return loads; }
+    public Map<String, String> getJUnitProperties() { return junitProperties; }
+}
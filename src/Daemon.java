@@ -0,0 +1,200 @@
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.*;
+
+//Long-lived compiler for editors and git hooks. One JVM keeps the CUP runtime loaded and the scanner,
+//parser and generator JIT-compiled; DaemonClient forwards each invocation over a loopback socket and
+//gets its output streamed back. Requests run one at a time because System.out and System.err are
+//pointed at the requesting client for the duration of the run.
+//
+//Wire format: the client sends PROTOCOL, the token, its working directory, the argument count and
+//the arguments (DataOutput UTF strings); the daemon answers with frames of one type byte and a
+//length-prefixed chunk (STDOUT, STDERR), ending with EXIT and the exit status.
+public class Daemon {
+    public static final String PROTOCOL = "TESTLANG/1";
+    public static final int STDOUT = 'o';
+    public static final int STDERR = 'e';
+    public static final int EXIT = 'x';
+
+    //a client that connects and sends nothing would otherwise hold up every request behind it
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 5000;
+
+    private final int port;
+    private final String token;
+
+    //0 picks a free port; clients find it in infoFile()
+    public Daemon(int port) {
+        this.port = port;
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    //"<port> <token>", readable by the owner only, so only the same user can drive the daemon
+    public static Path infoFile() {
+        return Paths.get(System.getProperty("user.home"), ".testlang-daemon");
+    }
+
+    public void serve() throws IOException {
+        PrintStream console = System.out;
+        PrintStream consoleErr = System.err;
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            warmUp();
+            writeInfoFile(server.getLocalPort());
+            console.println("✅ TestLang daemon listening on " + server.getInetAddress().getHostAddress()
+                + ":" + server.getLocalPort());
+
+            boolean running = true;
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    running = handle(socket, console, consoleErr);
+                } catch (IOException e) {
+                    consoleErr.println("❌ Request failed: " + e.getMessage());
+                } catch (RuntimeException | Error e) {
+                    //one bad request must not take the daemon down for every client
+                    consoleErr.println("❌ Request failed: " + e);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(infoFile());
+        }
+    }
+
+    //false once a client asked the daemon to stop
+    private boolean handle(Socket socket, PrintStream console, PrintStream consoleErr) throws IOException {
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        if (!PROTOCOL.equals(in.readUTF()) || !token.equals(in.readUTF())) {
+            new FrameOutputStream(out, STDERR).write(
+                "❌ Rejected by the TestLang daemon, restart it and retry\n".getBytes(StandardCharsets.UTF_8));
+            sendExit(out, 2);
+            return true;
+        }
+        Path workDir = Paths.get(in.readUTF());
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        //the request is in; the run itself may take as long as it needs
+        socket.setSoTimeout(0);
+        if (Arrays.asList(args).contains("--watch")) {
+            //it would never return and hold the daemon for good
+            new FrameOutputStream(out, STDERR).write(
+                "❌ --watch runs on its own, use Main --watch directly\n".getBytes(StandardCharsets.UTF_8));
+            sendExit(out, 2);
+            return true;
+        }
+        if (args.length == 1 && args[0].equals("--stop")) {
+            console.println("TestLang daemon stopped");
+            sendExit(out, 0);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        PrintStream stdout = new PrintStream(new FrameOutputStream(out, STDOUT), true, StandardCharsets.UTF_8);
+        PrintStream stderr = new PrintStream(new FrameOutputStream(out, STDERR), true, StandardCharsets.UTF_8);
+        int status;
+        System.setOut(stdout);
+        System.setErr(stderr);
+        try {
+            status = Main.run(args, workDir);
+        } finally {
+            System.setOut(console);
+            System.setErr(consoleErr);
+            stdout.flush();
+            stderr.flush();
+        }
+        sendExit(out, status);
+        console.println(String.format("%s %s (%.1f ms, exit %d)", workDir, String.join(" ", args),
+            (System.nanoTime() - start) / 1e6, status));
+        return true;
+    }
+
+    private static void sendExit(DataOutputStream out, int status) throws IOException {
+        synchronized (out) {
+            out.writeByte(EXIT);
+            out.writeInt(status);
+            out.flush();
+        }
+    }
+
+    private void writeInfoFile(int boundPort) throws IOException {
+        Path info = infoFile();
+        Files.deleteIfExists(info);
+        try {
+            Files.createFile(info, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(info);
+        }
+        Files.write(info, (boundPort + " " + token + "\n").getBytes(StandardCharsets.UTF_8));
+        info.toFile().deleteOnExit();
+    }
+
+    //Runs scanner, parser and generator until the JIT has compiled their hot paths, so even the
+    //first request gets the warm turnaround
+    private static void warmUp() {
+        StringBuilder src = new StringBuilder();
+        src.append("config {\n  base_url = \"http://localhost:8080\";\n")
+           .append("  header \"Content-Type\" = \"application/json\";\n}\n")
+           .append("let user = \"admin\";\nlet id = \"42\";\n");
+        for (int i = 0; i < 25; i++) {
+            src.append("test Warm").append(i).append(" {\n")
+               .append("  POST \"/api/login\" {\n    body = \"{ \\\"username\\\": \\\"$user\\\" }\";\n  };\n")
+               .append("  expect status = 200;\n")
+               .append("  expect header \"Content-Type\" contains \"json\";\n")
+               .append("  expect body contains \"\\\"token\\\":\";\n")
+               .append("  GET \"/api/users/$id\";\n")
+               .append("  expect header \"X-App\" = \"TestLangDemo\";\n")
+               .append("  expect latency < 500ms;\n}\n");
+        }
+        String source = src.toString();
+        TestLangCompiler compiler = new TestLangCompiler();
+        try {
+            for (int i = 0; i < 300; i++) {
+                compiler.compile(new StringReader(source));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //Sends everything written to it as frames of one type; the test threads of a run may write
+    //to stdout and stderr at the same time, so frames are written under the stream's lock
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final int type;
+
+        FrameOutputStream(DataOutputStream out, int type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return;
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
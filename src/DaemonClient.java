@@ -0,0 +1,60 @@
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+//Thin client for the compiler daemon: sends its arguments and working directory, copies the output
+//to its own stdout and stderr and exits with the compiler's status. It loads none of the compiler,
+//so it takes the same arguments as Main at a fraction of the start-up cost. "--stop" shuts the
+//daemon down.
+public class DaemonClient {
+    public static void main(String[] args) {
+        Path info = Daemon.infoFile();
+        String[] daemon;
+        try {
+            daemon = new String(Files.readAllBytes(info), StandardCharsets.UTF_8).trim().split(" ");
+        } catch (IOException e) {
+            System.err.println("❌ No TestLang daemon running (" + info + " not found), start one with Main --daemon");
+            System.exit(2);
+            return;
+        }
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(daemon[0]))) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(Daemon.PROTOCOL);
+            out.writeUTF(daemon[1]);
+            out.writeUTF(Paths.get("").toAbsolutePath().toString());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            byte[] buf = new byte[8192];
+            while (true) {
+                int type = in.readByte();
+                if (type == Daemon.EXIT) {
+                    int status = in.readInt();
+                    System.out.flush();
+                    System.exit(status);
+                }
+                int len = in.readInt();
+                PrintStream target = type == Daemon.STDERR ? System.err : System.out;
+                while (len > 0) {
+                    int n = in.read(buf, 0, Math.min(len, buf.length));
+                    if (n < 0) throw new EOFException();
+                    target.write(buf, 0, n);
+                    len -= n;
+                }
+                target.flush();
+            }
+        } catch (ConnectException e) {
+            System.err.println("❌ TestLang daemon not reachable on port " + daemon[0] + ", start one with Main --daemon");
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("❌ Lost the TestLang daemon: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+import java_cup.runtime.Symbol;
+
+//One problem found in a .test source. Line and column start at 1 and are 0 when unknown.
+public final class Diagnostic {
+    public enum Severity { ERROR, WARNING }
+
+    private final Severity severity;
+    private final String sourceName;
+    private final int line;
+    private final int column;
+    private final String message;
+
+    public Diagnostic(Severity severity, String sourceName, int line, int column, String message) {
+        this.severity = severity;
+        this.sourceName = sourceName;
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    //the scanner puts the 0-based line and column into left and right
+    public static Diagnostic error(String sourceName, String message, Symbol at) {
+        return at == null
+            ? new Diagnostic(Severity.ERROR, sourceName, 0, 0, message)
+            : new Diagnostic(Severity.ERROR, sourceName, at.left + 1, at.right + 1, message);
+    }
+
+    public Severity getSeverity() { return severity; }
+    public String getSourceName() { return sourceName; }
+    public int getLine() { return line; }
+    public int getColumn() { return column; }
+    public String getMessage() { return message; }
+    public boolean isError() { return severity == Severity.ERROR; }
+
+    @Override
+    public String toString() {
+        String prefix = sourceName != null ? sourceName + ": " : "";
+        return prefix + "Line " + (line > 0 ? String.valueOf(line) : "?") + ": " + message;
+    }
+}
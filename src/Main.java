@@ -1,36 +1,342 @@
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
 import java_cup.runtime.*;
 import ast.*;
+import runner.*;
 
 public class Main {
     public static void main(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--daemon") || arg.startsWith("--daemon=")) {
+                //keep this JVM (and the JIT-compiled scanner, parser and generator) for many runs
+                int port = arg.equals("--daemon") ? 0 : Integer.parseInt(arg.substring("--daemon=".length()));
+                try {
+                    new Daemon(port).serve();
+                } catch (IOException e) {
+                    System.err.println("❌ Daemon failed: " + e.getMessage());
+                    System.exit(1);
+                }
+                return;
+            }
+        }
+
+        int status = run(args, Paths.get(""));
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    //One compiler invocation, returning the exit status instead of exiting. Relative paths in args
+    //and all output files are resolved against workDir, which the daemon sets to the client's
+    public static int run(String[] args, Path workDir) {
         try {
-            String filename = (args.length > 0) ? args[0] : "examples/example.test";
+            List<String> inputs = new ArrayList<>();
+            boolean interpret = false;
+            boolean inMemory = false;
+            boolean watch = false;
+            boolean emitTlc = false;
+            int shardTests = 0;
+            long shardBytes = 0;
+            int threads = 0;
+            Path cacheDir = null;
+            long cacheMegabytes = 512;
+            for (String arg : args) {
+                if (arg.equals("--run")) {
+                    interpret = true;
+                } else if (arg.equals("--in-memory")) {
+                    inMemory = true;
+                } else if (arg.equals("--watch")) {
+                    watch = true;
+                } else if (arg.equals("--emit-tlc")) {
+                    emitTlc = true;
+                } else if (arg.startsWith("--shard-tests=")) {
+                    shardTests = Integer.parseInt(arg.substring("--shard-tests=".length()));
+                } else if (arg.startsWith("--shard-bytes=")) {
+                    shardBytes = Long.parseLong(arg.substring("--shard-bytes=".length()));
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                } else if (arg.equals("--cache")) {
+                    cacheDir = ClassCache.defaultDir();
+                } else if (arg.startsWith("--cache=")) {
+                    cacheDir = workDir.resolve(arg.substring("--cache=".length()));
+                } else if (arg.startsWith("--cache-size=")) {
+                    cacheMegabytes = Long.parseLong(arg.substring("--cache-size=".length()));
+                } else {
+                    inputs.add(arg);
+                }
+            }
+            if (watch) {
+                //re-runs changed tests until stopped
+                new Watcher(workDir.resolve(inputs.isEmpty() ? "." : inputs.get(0))).watch();
+                return 0;
+            }
+            if (inputs.isEmpty()) {
+                inputs.add("examples/example.test");
+            }
 
-            FileReader fileReader = new FileReader(filename);
-            TestLangScanner scanner = new TestLangScanner(fileReader);
-            TestLangParser parser = new TestLangParser(scanner);
+            //several files, a directory or a glob: one class per file, compiled in parallel
+            if (inputs.size() > 1 || Files.isDirectory(workDir.resolve(inputs.get(0)))
+                    || inputs.get(0).matches(".*[*?\\[{].*")) {
+                if (interpret || inMemory) {
+                    System.err.println("❌ --run and --in-memory take a single .test file");
+                    return 1;
+                }
+                return compileBatch(workDir, inputs, threads, shardTests, shardBytes);
+            }
+            String filename = inputs.get(0);
+            File file = workDir.resolve(filename).toFile();
+
+            TestLangCompiler compiler = new TestLangCompiler(CodeGenerator.CLASS_NAME, shardTests, shardBytes);
+
+            if (emitTlc) {
+                return emitProgramFile(compiler, file);
+            }
+            //a .tlc file is the AST of an earlier parse: read it instead of scanning and parsing
+            boolean binary = file.getName().endsWith(ProgramFile.EXTENSION);
 
-            parser.parse();
-            Program program = parser.getProgram();
+            if (!interpret && !inMemory) {
+                return generateStreaming(compiler, file, workDir, binary);
+            }
 
-            System.out.println("\n✅ Parsing completed successfully!");
+            if (interpret) {
+                //execute in this JVM instead of going through javac and JUnit
+                Program program;
+                if (binary) {
+                    program = loadProgramFile(file);
+                } else {
+                    CompilationResult parsed;
+                    try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                        parsed = compiler.parse(reader, null);
+                    }
+                    if (!reportErrors(parsed)) {
+                        return 1;
+                    }
+                    program = parsed.getProgram();
+                }
 
-            CodeGenerator generator = new CodeGenerator();
-            String javaCode = generator.generate(program);
+                Interpreter interpreter = new Interpreter(program);
+                SuiteResult result = interpreter.run(file.getName());
+                result.printReport(System.out);
 
-            try (FileWriter writer = new FileWriter("GeneratedTests.java")) {
-                writer.write(javaCode);
+                LoadRunner loadRunner = new LoadRunner(interpreter);
+                ArrivalRateRunner rateRunner = new ArrivalRateRunner(interpreter);
+                for (Load load : program.getLoads()) {
+                    System.out.println();
+                    LoadResult loadResult = load.isArrivalRate()
+                        ? rateRunner.run(load) : loadRunner.run(load);
+                    loadResult.printReport(System.out);
+                }
+                return result.isSuccessful() ? 0 : 1;
             }
-            System.out.println("✅ Generated GeneratedTests.java");
+
+            //--in-memory: compile with javax.tools and launch JUnit here, no GeneratedTests.java on disk
+            ClassCache cache = cacheDir != null ? new ClassCache(cacheDir, cacheMegabytes << 20) : null;
+            return runInMemory(compiler, file, binary, cache, shardTests + "/" + shardBytes);
 
         } catch (FileNotFoundException e) {
             System.err.println("❌ File not found: " + e.getMessage());
-            System.exit(1);
+            return 1;
         } catch (Exception e) {
             System.err.println("❌ Error: " + e.getMessage());
             e.printStackTrace();
-            System.exit(1);
+            return 1;
+        }
+    }
+
+    //With a cache, an unchanged suite (same source, compiler, JDK and options) skips scanning,
+    //parsing, generation and javac and runs the class files from the last time
+    private static int runInMemory(TestLangCompiler compiler, File file, boolean binary, ClassCache cache,
+                                   String options) throws Exception {
+        byte[] source;
+        try (InputStream in = new FileInputStream(file)) {
+            source = in.readAllBytes();
+        }
+        String key = null;
+        if (cache != null) {
+            key = ClassCache.key(TestLangCompiler.fingerprint().getBytes(StandardCharsets.UTF_8),
+                System.getProperty("java.specification.version").getBytes(StandardCharsets.UTF_8),
+                (compiler.getClassName() + "/" + options).getBytes(StandardCharsets.UTF_8),
+                source);
+            ClassCache.Entry cached = cache.get(key);
+            if (cached != null) {
+                System.out.println("\n⚡ Compiled tests loaded from the cache");
+                JUnitRunner.Report report = JUnitRunner.runClasses(cached.getClasses(),
+                    cached.getTestClasses(), cached.getConfiguration());
+                report.printReport(System.out);
+                return report.isSuccessful() ? 0 : 1;
+            }
+        }
+
+        CompilationResult compiled;
+        if (binary) {
+            compiled = compiler.compile(ProgramFile.read(java.nio.ByteBuffer.wrap(source)));
+            System.out.println("\n✅ Loaded " + file.getName());
+        } else {
+            //.test files are UTF-8 in every mode, like in batch and watch mode
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8)) {
+                compiled = compiler.compile(reader, null);
+            }
+            if (!reportErrors(compiled)) {
+                return 1;
+            }
+        }
+        Map<String, byte[]> classes = new MemoryCompiler().compile(compiled.getSources());
+        List<String> testClasses = new ArrayList<>(compiled.getSources().keySet());
+        if (cache != null) {
+            cache.put(key, new ClassCache.Entry(classes, testClasses, compiled.getJUnitProperties()));
+        }
+        JUnitRunner.Report report = JUnitRunner.runClasses(classes, testClasses, compiled.getJUnitProperties());
+        report.printReport(System.out);
+        return report.isSuccessful() ? 0 : 1;
+    }
+
+    //Generates GeneratedTests.java (or its shards) while parsing: every test is written out as soon
+    //as it is parsed, so memory stays at one test however big the file is
+    private static int generateStreaming(TestLangCompiler compiler, File file, Path workDir, boolean binary)
+            throws Exception {
+        List<Path> partials = new ArrayList<>();
+        CodeGenerator.SourceSink sink = className -> {
+            Path partial = workDir.resolve(className + ".java.partial");
+            partial.toFile().deleteOnExit();
+            partials.add(partial);
+            return Files.newBufferedWriter(partial, StandardCharsets.UTF_8);
+        };
+        CompilationResult result;
+        if (binary) {
+            result = compiler.compile(loadProgramFile(file), sink);
+        } else {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                result = compiler.compile(reader, null, sink);
+            }
+        }
+        if (!binary && !reportErrors(result)) {
+            for (Path partial : partials) {
+                Files.deleteIfExists(partial);
+            }
+            return 1;
+        }
+        List<String> classNames = result.getClassNames();
+
+        //only replace the previous output once the whole file parsed, and drop classes of an
+        //earlier run that this one no longer produces (e.g. after changing the shard size)
+        try (DirectoryStream<Path> old = Files.newDirectoryStream(workDir.toAbsolutePath(), "Generated*.java")) {
+            for (Path p : old) {
+                String name = p.getFileName().toString().replace(".java", "");
+                if (name.matches("Generated(\\d+Tests|Tests|TestsBase)") && !classNames.contains(name)) {
+                    Files.delete(p);
+                }
+            }
+        }
+        for (String name : classNames) {
+            Files.move(workDir.resolve(name + ".java.partial"), workDir.resolve(name + ".java"),
+                StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (result.getLoads() > 0) {
+            System.out.println("ℹ️  load blocks are only executed with --run");
+        }
+        for (String name : classNames) {
+            System.out.println("✅ Generated " + name + ".java");
+        }
+
+        writeJUnitProperties(workDir, result.getJUnitProperties());
+        return 0;
+    }
+
+    //Parses a .test file and writes its AST next to it as a .tlc file
+    private static int emitProgramFile(TestLangCompiler compiler, File file) throws IOException {
+        CompilationResult parsed;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            parsed = compiler.parse(reader, null);
+        }
+        if (!reportErrors(parsed)) {
+            return 1;
+        }
+        String name = file.getName().replaceFirst("\\.test$", "") + ProgramFile.EXTENSION;
+        Path target = file.toPath().resolveSibling(name);
+        ProgramFile.write(parsed.getProgram(), target);
+        System.out.println("✅ Wrote " + target + " (" + parsed.getTests() + " tests, " + Files.size(target) + " bytes)");
+        return 0;
+    }
+
+    private static Program loadProgramFile(File file) throws IOException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        Program program = ProgramFile.read(file.toPath());
+        System.out.println("\n✅ Loaded " + file.getName());
+        return program;
+    }
+
+    private static boolean reportErrors(CompilationResult result) {
+        if (!result.isSuccessful()) {
+            for (Diagnostic d : result.getDiagnostics()) {
+                System.err.println(d);
+            }
+            return false;
+        }
+        System.out.println("\n✅ Parsing completed successfully!");
+        return true;
+    }
+
+    private static int compileBatch(Path workDir, List<String> inputs, int threads, int shardTests,
+                                    long shardBytes) throws Exception {
+        List<Path> files = BatchCompiler.discover(workDir, inputs);
+        if (files.isEmpty()) {
+            System.err.println("❌ No .test files found in " + String.join(" ", inputs));
+            return 1;
+        }
+        int poolSize = threads > 0 ? threads : Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+
+        long start = System.nanoTime();
+        BatchCompiler compiler = new BatchCompiler(workDir, shardTests, shardBytes);
+        List<BatchCompiler.FileResult> results = compiler.compileAll(files, poolSize);
+        compiler.deleteStale(results);
+        BatchCompiler.printSummary(System.out, results, System.nanoTime() - start, poolSize);
+        boolean failed = false;
+        for (BatchCompiler.FileResult r : results) {
+            for (Diagnostic d : r.getDiagnostics()) {
+                System.err.println(d);
+            }
+            failed |= !r.isSuccessful();
+        }
+
+        //junit-platform.properties is one per class path: parallel classes run concurrently, so
+        //take the highest parallelism any file asked for
+        Map<String, String> junitProperties = Collections.emptyMap();
+        int loads = 0;
+        for (BatchCompiler.FileResult r : results) {
+            loads += r.getLoads();
+            String p = r.getJUnitProperties().get(CodeGenerator.PARALLELISM_PROPERTY);
+            String current = junitProperties.get(CodeGenerator.PARALLELISM_PROPERTY);
+            if (p != null && (current == null || Integer.parseInt(p) > Integer.parseInt(current))) {
+                junitProperties = r.getJUnitProperties();
+            }
+        }
+        if (loads > 0) {
+            System.out.println("ℹ️  load blocks are only executed with --run");
+        }
+        writeJUnitProperties(workDir, junitProperties);
+        return failed ? 1 : 0;
+    }
+
+    //the console launcher picks this up from the class path to enable parallel execution; one left
+    //by an earlier compile is removed when the suite is no longer parallel
+    private static void writeJUnitProperties(Path workDir, Map<String, String> junitProperties) throws IOException {
+        Path file = workDir.resolve("junit-platform.properties");
+        if (junitProperties.isEmpty()) {
+            if (Files.deleteIfExists(file)) {
+                System.out.println("✅ Removed junit-platform.properties, the tests run sequentially");
+            }
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            for (Map.Entry<String, String> p : junitProperties.entrySet()) {
+                writer.write(p.getKey() + "=" + p.getValue() + "\n");
+            }
         }
+        System.out.println("✅ Generated junit-platform.properties");
     }
-}
\ No newline at end of file
+}
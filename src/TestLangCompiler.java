@@ -0,0 +1,204 @@
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import ast.*;
+
+//Embeddable entry point: compiles one .test source per call and reports problems as Diagnostics
+//instead of printing them or exiting. A compiler only holds its immutable settings and every call
+//builds its own scanner, parser and CodeGenerator, so one instance can serve any number of threads.
+public final class TestLangCompiler {
+    public static final String VERSION = "1.0";
+
+    //classes whose code decides what the generated tests look like or link against; a change to
+    //any of them gives a new fingerprint(), so caches keyed on it never serve stale output
+    private static final String[] GENERATED_CODE_INPUTS = {
+        "TestLangScanner", "TestLangParser", "CodeGenerator", "runtime.BodyMatcher", "runtime.MatchedBody",
+        "runtime.JsonPaths", "runtime.JsonValue", "runtime.Http", "runtime.RequestSpec", "runtime.Response",
+        "runtime.Expect", "runtime.ClientSettings", "runtime.Threads"
+    };
+    private static volatile String fingerprint;
+
+    private final String className;
+    private final int shardTests;
+    private final long shardBytes;
+
+    public TestLangCompiler() {
+        this(CodeGenerator.CLASS_NAME, 0, 0);
+    }
+
+    public TestLangCompiler(String className, int shardTests, long shardBytes) {
+        this.className = className;
+        this.shardTests = shardTests;
+        this.shardBytes = shardBytes;
+    }
+
+    public TestLangCompiler withClassName(String className) {
+        return new TestLangCompiler(className, shardTests, shardBytes);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    //VERSION plus a hash of the class files in GENERATED_CODE_INPUTS
+    public static String fingerprint() {
+        String f = fingerprint;
+        if (f == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                ClassLoader loader = TestLangCompiler.class.getClassLoader();
+                for (String name : GENERATED_CODE_INPUTS) {
+                    try (InputStream in = loader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (in == null) {
+                            throw new IllegalStateException("class file of " + name + " not found");
+                        }
+                        digest.update(in.readAllBytes());
+                    }
+                }
+                StringBuilder hex = new StringBuilder(VERSION).append('-');
+                for (byte b : digest.digest()) {
+                    hex.append(String.format("%02x", b));
+                }
+                f = fingerprint = hex.toString();
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return f;
+    }
+
+    //Parses without generating; the program keeps every test
+    public CompilationResult parse(Reader source, String sourceName) throws IOException {
+        TestLangParser parser = newParser(source, sourceName);
+        boolean ok = runParser(parser);
+        Program program = parser.getProgram();
+        return new CompilationResult(ok ? program : null, parser.getDiagnostics(),
+            Collections.emptyMap(), Collections.emptyList(),
+            program.getTests().size(), program.getLoads().size(), Collections.emptyMap());
+    }
+
+    public CompilationResult compile(Reader source) throws IOException {
+        return compile(source, null);
+    }
+
+    //Generated classes are returned in the result
+    public CompilationResult compile(Reader source, String sourceName) throws IOException {
+        return collect(sink -> compile(source, sourceName, sink));
+    }
+
+    //Generates from a program that is already parsed, e.g. one read from a .tlc file
+    public CompilationResult compile(Program program) throws IOException {
+        return collect(sink -> compile(program, sink));
+    }
+
+    public CompilationResult compile(Program program, CodeGenerator.SourceSink sink) throws IOException {
+        CodeGenerator generator = newGenerator();
+        List<String> classNames = new ArrayList<>();
+        generator.start(program, name -> {
+            classNames.add(name);
+            return sink.open(name);
+        });
+        try {
+            for (Test test : program.getTests()) {
+                generator.addTest(test);
+            }
+            generator.finish();
+        } finally {
+            generator.abort();
+        }
+        return new CompilationResult(program, Collections.emptyList(), Collections.emptyMap(), classNames,
+            program.getTests().size(), program.getLoads().size(), generator.getJUnitProperties());
+    }
+
+    private interface Generation {
+        CompilationResult run(CodeGenerator.SourceSink sink) throws IOException;
+    }
+
+    //Runs a generation into StringWriters and puts their text in the result
+    private static CompilationResult collect(Generation generation) throws IOException {
+        Map<String, StringWriter> writers = new LinkedHashMap<>();
+        CompilationResult streamed = generation.run(name -> {
+            StringWriter w = new StringWriter();
+            writers.put(name, w);
+            return w;
+        });
+        if (!streamed.isSuccessful()) {
+            return streamed;
+        }
+        Map<String, String> sources = new LinkedHashMap<>();
+        writers.forEach((name, w) -> sources.put(name, w.toString()));
+        return new CompilationResult(streamed.getProgram(), streamed.getDiagnostics(), sources,
+            streamed.getClassNames(), streamed.getTests(), streamed.getLoads(),
+            streamed.getJUnitProperties());
+    }
+
+    //Generated classes are streamed into sink test by test while parsing. Once an error is found
+    //no more tests are generated, and the writer that is still open is closed; partial output
+    //already in the sink is the caller's to discard. Only I/O errors of source or sink are thrown.
+    public CompilationResult compile(Reader source, String sourceName, CodeGenerator.SourceSink sink)
+            throws IOException {
+        TestLangParser parser = newParser(source, sourceName);
+        CodeGenerator generator = newGenerator();
+
+        List<String> classNames = new ArrayList<>();
+        int[] counts = new int[2];
+        generator.start(parser.getProgram(), name -> {
+            classNames.add(name);
+            return sink.open(name);
+        });
+        parser.setListener(new ProgramListener() {
+            public void testParsed(Test test) throws Exception {
+                counts[0]++;
+                if (!parser.hasErrors()) {
+                    generator.addTest(test);
+                }
+            }
+
+            public void loadParsed(Load load) {
+                counts[1]++;
+            }
+        });
+
+        boolean ok;
+        try {
+            ok = runParser(parser);
+            if (ok) {
+                generator.finish();
+            }
+        } finally {
+            generator.abort();
+        }
+        return new CompilationResult(ok ? parser.getProgram() : null, parser.getDiagnostics(),
+            Collections.emptyMap(), ok ? classNames : Collections.emptyList(), counts[0], counts[1],
+            ok ? generator.getJUnitProperties() : Collections.emptyMap());
+    }
+
+    private CodeGenerator newGenerator() {
+        CodeGenerator generator = new CodeGenerator();
+        generator.setClassName(className);
+        generator.setShardLimits(shardTests, shardBytes);
+        return generator;
+    }
+
+    private static TestLangParser newParser(Reader source, String sourceName) {
+        TestLangParser parser = new TestLangParser(new TestLangScanner(source));
+        parser.setSourceName(sourceName);
+        return parser;
+    }
+
+    //false when the source has errors, which are then in the parser's diagnostics
+    private static boolean runParser(TestLangParser parser) throws IOException {
+        try {
+            parser.parse();
+        } catch (IOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (!parser.hasErrors()) throw e;
+        } catch (Exception e) {
+            //lr_parser gives up on syntax errors with a plain Exception
+            if (!parser.hasErrors()) throw new IllegalStateException(e);
+        }
+        return !parser.hasErrors();
+    }
+}
@@ -31,15 +31,30 @@ public class TestLangParser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\033\000\002\002\004\000\002\002\005\000\002\004" +
-    "\002\000\002\004\007\000\002\004\010\000\002\003\002" +
-    "\000\002\003\006\000\002\005\007\000\002\006\003\000" +
-    "\002\006\004\000\002\007\005\000\002\007\010\000\002" +
-    "\007\010\000\002\007\005\000\002\007\003\000\002\010" +
-    "\003\000\002\010\004\000\002\011\007\000\002\011\007" +
-    "\000\002\011\010\000\002\011\010\000\002\012\002\000" +
-    "\002\012\006\000\002\013\007\000\002\013\007\000\002" +
-    "\014\002\000\002\014\004" });
+    "\000\113\000\002\002\004\000\002\002\005\000\002\004" +
+    "\002\000\002\004\007\000\002\004\010\000\002\004\007" +
+    "\000\002\004\007\000\002\004\007\000\002\004\007\000" +
+    "\002\004\007\000\002\003\002\000\002\003\006\000\002" +
+    "\005\007\000\002\006\003\000\002\006\004\000\002\006" +
+    "\004\000\002\021\007\000\002\022\002\000\002\022\007" +
+    "\000\002\022\007\000\002\022\007\000\002\022\007\000" +
+    "\002\013\005\000\002\013\010\000\002\013\010\000\002" +
+    "\013\010\000\002\013\005\000\002\013\010\000\002\007" +
+    "\003\000\002\007\006\000\002\007\010\000\002\007\011" +
+    "\000\002\007\003\000\002\010\003\000\002\010\004\000" +
+    "\002\014\003\000\002\014\004\000\002\015\003\000\002" +
+    "\015\005\000\002\011\004\000\002\011\005\000\002\012" +
+    "\006\000\002\012\006\000\002\012\007\000\002\012\007" +
+    "\000\002\012\006\000\002\012\006\000\002\012\007\000" +
+    "\002\012\007\000\002\012\007\000\002\012\007\000\002" +
+    "\012\010\000\002\016\002\000\002\016\007\000\002\016" +
+    "\010\000\002\023\003\000\002\023\003\000\002\023\003" +
+    "\000\002\023\003\000\002\023\003\000\002\023\003\000" +
+    "\002\023\003\000\002\023\003\000\002\023\003\000\002" +
+    "\023\003\000\002\023\003\000\002\023\003\000\002\023" +
+    "\003\000\002\023\003\000\002\023\003\000\002\023\003" +
+    "\000\002\017\007\000\002\017\007\000\002\020\002\000" +
+    "\002\020\004" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -47,56 +62,166 @@ public class TestLangParser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\114\000\010\004\004\005\ufffc\027\ufffc\001\002\000" +
-    "\004\017\103\001\002\000\004\002\102\001\002\000\006" +
-    "\005\uffe8\027\uffe8\001\002\000\006\005\012\027\011\001" +
-    "\002\000\006\005\uffe7\027\uffe7\001\002\000\004\015\074" +
-    "\001\002\000\004\015\016\001\002\000\006\002\000\005" +
-    "\012\001\002\000\006\002\ufff9\005\ufff9\001\002\000\006" +
-    "\002\ufff8\005\ufff8\001\002\000\004\017\017\001\002\000" +
-    "\014\006\023\010\020\011\027\012\026\013\025\001\002" +
-    "\000\004\016\072\001\002\000\016\006\023\010\020\011" +
-    "\027\012\026\013\025\020\071\001\002\000\016\006\ufff3" +
-    "\010\ufff3\011\ufff3\012\ufff3\013\ufff3\020\ufff3\001\002\000" +
-    "\010\022\050\024\051\025\052\001\002\000\016\006\ufff2" +
-    "\010\ufff2\011\ufff2\012\ufff2\013\ufff2\020\ufff2\001\002\000" +
-    "\004\016\046\001\002\000\004\016\041\001\002\000\004" +
-    "\016\030\001\002\000\004\017\031\001\002\000\006\020" +
-    "\uffec\024\032\001\002\000\004\023\036\001\002\000\004" +
-    "\020\034\001\002\000\004\021\035\001\002\000\016\006" +
-    "\ufff6\010\ufff6\011\ufff6\012\ufff6\013\ufff6\020\ufff6\001\002" +
-    "\000\004\016\037\001\002\000\004\021\040\001\002\000" +
-    "\004\020\uffeb\001\002\000\004\017\042\001\002\000\006" +
-    "\020\uffec\024\032\001\002\000\004\020\044\001\002\000" +
-    "\004\021\045\001\002\000\016\006\ufff5\010\ufff5\011\ufff5" +
-    "\012\ufff5\013\ufff5\020\ufff5\001\002\000\004\021\047\001" +
-    "\002\000\016\006\ufff4\010\ufff4\011\ufff4\012\ufff4\013\ufff4" +
-    "\020\ufff4\001\002\000\004\023\065\001\002\000\004\026" +
-    "\062\001\002\000\004\016\053\001\002\000\006\023\055" +
-    "\026\054\001\002\000\004\016\060\001\002\000\004\016" +
-    "\056\001\002\000\004\021\057\001\002\000\016\006\uffee" +
-    "\010\uffee\011\uffee\012\uffee\013\uffee\020\uffee\001\002\000" +
-    "\004\021\061\001\002\000\016\006\uffed\010\uffed\011\uffed" +
-    "\012\uffed\013\uffed\020\uffed\001\002\000\004\016\063\001" +
-    "\002\000\004\021\064\001\002\000\016\006\uffef\010\uffef" +
-    "\011\uffef\012\uffef\013\uffef\020\uffef\001\002\000\004\014" +
-    "\066\001\002\000\004\021\067\001\002\000\016\006\ufff0" +
-    "\010\ufff0\011\ufff0\012\ufff0\013\ufff0\020\ufff0\001\002\000" +
-    "\016\006\ufff1\010\ufff1\011\ufff1\012\ufff1\013\ufff1\020\ufff1" +
-    "\001\002\000\006\002\ufffa\005\ufffa\001\002\000\004\021" +
-    "\073\001\002\000\016\006\ufff7\010\ufff7\011\ufff7\012\ufff7" +
-    "\013\ufff7\020\ufff7\001\002\000\004\023\075\001\002\000" +
-    "\006\014\077\016\076\001\002\000\004\021\101\001\002" +
-    "\000\004\021\100\001\002\000\006\005\uffe9\027\uffe9\001" +
-    "\002\000\006\005\uffea\027\uffea\001\002\000\004\002\001" +
-    "\001\002\000\010\007\uffff\020\uffff\025\uffff\001\002\000" +
-    "\010\007\107\020\105\025\106\001\002\000\006\005\ufffb" +
-    "\027\ufffb\001\002\000\004\016\113\001\002\000\004\023" +
-    "\110\001\002\000\004\016\111\001\002\000\004\021\112" +
-    "\001\002\000\010\007\ufffe\020\ufffe\025\ufffe\001\002\000" +
-    "\004\023\114\001\002\000\004\016\115\001\002\000\004" +
-    "\021\116\001\002\000\010\007\ufffd\020\ufffd\025\ufffd\001" +
-    "\002" });
+    "\000\302\000\010\004\004\005\ufff7\037\ufff7\001\002\000" +
+    "\004\024\245\001\002\000\004\002\244\001\002\000\006" +
+    "\005\uffb8\037\uffb8\001\002\000\006\005\012\037\011\001" +
+    "\002\000\006\005\uffb7\037\uffb7\001\002\000\042\010\040" +
+    "\011\033\012\021\013\022\014\031\022\032\034\030\035" +
+    "\020\040\036\041\037\042\027\044\034\045\035\046\024" +
+    "\047\023\050\025\001\002\000\042\010\040\011\033\012" +
+    "\021\013\022\014\031\022\032\034\030\035\020\040\036" +
+    "\041\037\042\027\044\034\045\035\046\024\047\023\050" +
+    "\025\001\002\000\010\002\000\005\012\044\015\001\002" +
+    "\000\010\002\ufff4\005\ufff4\044\ufff4\001\002\000\042\010" +
+    "\040\011\033\012\021\013\022\014\031\022\032\034\030" +
+    "\035\020\040\036\041\037\042\027\044\034\045\035\046" +
+    "\024\047\023\050\025\001\002\000\010\002\ufff3\005\ufff3" +
+    "\044\ufff3\001\002\000\010\002\ufff2\005\ufff2\044\ufff2\001" +
+    "\002\000\006\024\uffbf\030\uffbf\001\002\000\006\024\uffbd" +
+    "\030\uffbd\001\002\000\006\024\uffbc\030\uffbc\001\002\000" +
+    "\006\024\uffc3\030\uffc3\001\002\000\006\024\uffc4\030\uffc4" +
+    "\001\002\000\006\024\uffc2\030\uffc2\001\002\000\004\024" +
+    "\041\001\002\000\006\024\uffc7\030\uffc7\001\002\000\006" +
+    "\024\uffc0\030\uffc0\001\002\000\006\024\uffbb\030\uffbb\001" +
+    "\002\000\006\024\uffca\030\uffca\001\002\000\006\024\uffbe" +
+    "\030\uffbe\001\002\000\006\024\uffc6\030\uffc6\001\002\000" +
+    "\006\024\uffc5\030\uffc5\001\002\000\006\024\uffc9\030\uffc9" +
+    "\001\002\000\006\024\uffc8\030\uffc8\001\002\000\006\024" +
+    "\uffc1\030\uffc1\001\002\000\014\025\ufff0\045\ufff0\046\ufff0" +
+    "\047\ufff0\050\ufff0\001\002\000\014\025\045\045\046\046" +
+    "\043\047\044\050\047\001\002\000\004\030\061\001\002" +
+    "\000\004\030\056\001\002\000\010\002\ufff1\005\ufff1\044" +
+    "\ufff1\001\002\000\004\030\053\001\002\000\004\030\050" +
+    "\001\002\000\004\052\051\001\002\000\004\026\052\001" +
+    "\002\000\014\025\uffec\045\uffec\046\uffec\047\uffec\050\uffec" +
+    "\001\002\000\004\021\054\001\002\000\004\026\055\001" +
+    "\002\000\014\025\uffef\045\uffef\046\uffef\047\uffef\050\uffef" +
+    "\001\002\000\004\051\057\001\002\000\004\026\060\001" +
+    "\002\000\014\025\uffed\045\uffed\046\uffed\047\uffed\050\uffed" +
+    "\001\002\000\004\051\062\001\002\000\004\026\063\001" +
+    "\002\000\014\025\uffee\045\uffee\046\uffee\047\uffee\050\uffee" +
+    "\001\002\000\004\024\065\001\002\000\020\006\070\015" +
+    "\075\016\074\017\066\020\072\037\077\042\071\001\002" +
+    "\000\004\023\231\001\002\000\022\006\uffe5\015\uffe5\016" +
+    "\uffe5\017\uffe5\020\uffe5\025\uffe5\037\uffe5\042\uffe5\001\002" +
+    "\000\020\022\164\027\157\031\163\032\165\034\162\035" +
+    "\161\040\166\001\002\000\004\024\146\001\002\000\004" +
+    "\023\140\001\002\000\022\006\uffe0\015\uffe0\016\uffe0\017" +
+    "\uffe0\020\uffe0\025\uffe0\037\uffe0\042\uffe0\001\002\000\004" +
+    "\023\133\001\002\000\004\023\114\001\002\000\022\006" +
+    "\070\015\075\016\074\017\066\020\072\025\113\037\077" +
+    "\042\071\001\002\000\042\010\040\011\033\012\021\013" +
+    "\022\014\031\022\032\034\030\035\020\040\036\041\037" +
+    "\042\027\044\034\045\035\046\024\047\023\050\025\001" +
+    "\002\000\022\006\uffe1\015\uffe1\016\uffe1\017\uffe1\020\uffe1" +
+    "\025\uffe1\037\uffe1\042\uffe1\001\002\000\004\030\102\001" +
+    "\002\000\006\022\103\040\104\001\002\000\004\040\107" +
+    "\001\002\000\004\023\105\001\002\000\004\026\106\001" +
+    "\002\000\022\006\uffe3\015\uffe3\016\uffe3\017\uffe3\020\uffe3" +
+    "\025\uffe3\037\uffe3\042\uffe3\001\002\000\004\023\110\001" +
+    "\002\000\004\026\111\001\002\000\022\006\uffe2\015\uffe2" +
+    "\016\uffe2\017\uffe2\020\uffe2\025\uffe2\037\uffe2\042\uffe2\001" +
+    "\002\000\022\006\uffdf\015\uffdf\016\uffdf\017\uffdf\020\uffdf" +
+    "\025\uffdf\037\uffdf\042\uffdf\001\002\000\010\002\ufff5\005" +
+    "\ufff5\044\ufff5\001\002\000\006\024\115\026\116\001\002" +
+    "\000\010\025\uffcd\031\uffcd\032\uffcd\001\002\000\024\006" +
+    "\uffeb\015\uffeb\016\uffeb\017\uffeb\020\uffeb\022\uffeb\025\uffeb" +
+    "\037\uffeb\042\uffeb\001\002\000\010\025\121\031\120\032" +
+    "\122\001\002\000\004\030\130\001\002\000\004\026\127" +
+    "\001\002\000\004\023\123\001\002\000\004\030\124\001" +
+    "\002\000\004\023\125\001\002\000\004\026\126\001\002" +
+    "\000\010\025\uffcb\031\uffcb\032\uffcb\001\002\000\024\006" +
+    "\uffea\015\uffea\016\uffea\017\uffea\020\uffea\022\uffea\025\uffea" +
+    "\037\uffea\042\uffea\001\002\000\004\023\131\001\002\000" +
+    "\004\026\132\001\002\000\010\025\uffcc\031\uffcc\032\uffcc" +
+    "\001\002\000\004\024\134\001\002\000\010\025\uffcd\031" +
+    "\uffcd\032\uffcd\001\002\000\010\025\136\031\120\032\122" +
+    "\001\002\000\004\026\137\001\002\000\024\006\uffe9\015" +
+    "\uffe9\016\uffe9\017\uffe9\020\uffe9\022\uffe9\025\uffe9\037\uffe9" +
+    "\042\uffe9\001\002\000\006\024\141\026\142\001\002\000" +
+    "\010\025\uffcd\031\uffcd\032\uffcd\001\002\000\024\006\uffe7" +
+    "\015\uffe7\016\uffe7\017\uffe7\020\uffe7\022\uffe7\025\uffe7\037" +
+    "\uffe7\042\uffe7\001\002\000\010\025\144\031\120\032\122" +
+    "\001\002\000\004\026\145\001\002\000\024\006\uffe6\015" +
+    "\uffe6\016\uffe6\017\uffe6\020\uffe6\022\uffe6\025\uffe6\037\uffe6" +
+    "\042\uffe6\001\002\000\014\015\075\016\074\017\066\020" +
+    "\072\022\147\001\002\000\004\030\155\001\002\000\016" +
+    "\015\uffdc\016\uffdc\017\uffdc\020\uffdc\022\uffdc\025\uffdc\001" +
+    "\002\000\016\015\uffde\016\uffde\017\uffde\020\uffde\022\uffde" +
+    "\025\uffde\001\002\000\016\015\075\016\074\017\066\020" +
+    "\072\022\147\025\153\001\002\000\022\006\uffe4\015\uffe4" +
+    "\016\uffe4\017\uffe4\020\uffe4\025\uffe4\037\uffe4\042\uffe4\001" +
+    "\002\000\016\015\uffdd\016\uffdd\017\uffdd\020\uffdd\022\uffdd" +
+    "\025\uffdd\001\002\000\012\015\075\016\074\017\066\020" +
+    "\072\001\002\000\016\015\uffdb\016\uffdb\017\uffdb\020\uffdb" +
+    "\022\uffdb\025\uffdb\001\002\000\004\030\226\001\002\000" +
+    "\022\006\uffda\015\uffda\016\uffda\017\uffda\020\uffda\025\uffda" +
+    "\037\uffda\042\uffda\001\002\000\004\036\223\001\002\000" +
+    "\004\036\220\001\002\000\004\033\215\001\002\000\016" +
+    "\027\157\031\163\032\165\034\162\035\161\040\166\001" +
+    "\002\000\004\023\205\001\002\000\004\023\167\001\002" +
+    "\000\006\030\170\041\171\001\002\000\012\021\176\022" +
+    "\177\023\175\043\200\001\002\000\004\030\172\001\002" +
+    "\000\004\021\173\001\002\000\004\026\174\001\002\000" +
+    "\022\006\uffce\015\uffce\016\uffce\017\uffce\020\uffce\025\uffce" +
+    "\037\uffce\042\uffce\001\002\000\004\026\204\001\002\000" +
+    "\004\026\203\001\002\000\004\026\202\001\002\000\004" +
+    "\026\201\001\002\000\022\006\uffd1\015\uffd1\016\uffd1\017" +
+    "\uffd1\020\uffd1\025\uffd1\037\uffd1\042\uffd1\001\002\000\022" +
+    "\006\uffcf\015\uffcf\016\uffcf\017\uffcf\020\uffcf\025\uffcf\037" +
+    "\uffcf\042\uffcf\001\002\000\022\006\uffd2\015\uffd2\016\uffd2" +
+    "\017\uffd2\020\uffd2\025\uffd2\037\uffd2\042\uffd2\001\002\000" +
+    "\022\006\uffd0\015\uffd0\016\uffd0\017\uffd0\020\uffd0\025\uffd0" +
+    "\037\uffd0\042\uffd0\001\002\000\006\030\207\033\206\001" +
+    "\002\000\004\023\212\001\002\000\004\023\210\001\002" +
+    "\000\004\026\211\001\002\000\022\006\uffd6\015\uffd6\016" +
+    "\uffd6\017\uffd6\020\uffd6\025\uffd6\037\uffd6\042\uffd6\001\002" +
+    "\000\004\026\213\001\002\000\022\006\uffd5\015\uffd5\016" +
+    "\uffd5\017\uffd5\020\uffd5\025\uffd5\037\uffd5\042\uffd5\001\002" +
+    "\000\022\006\uffd9\015\uffd9\016\uffd9\017\uffd9\020\uffd9\025" +
+    "\uffd9\037\uffd9\042\uffd9\001\002\000\004\023\216\001\002" +
+    "\000\004\026\217\001\002\000\022\006\uffd7\015\uffd7\016" +
+    "\uffd7\017\uffd7\020\uffd7\025\uffd7\037\uffd7\042\uffd7\001\002" +
+    "\000\004\051\221\001\002\000\004\026\222\001\002\000" +
+    "\022\006\uffd4\015\uffd4\016\uffd4\017\uffd4\020\uffd4\025\uffd4" +
+    "\037\uffd4\042\uffd4\001\002\000\004\051\224\001\002\000" +
+    "\004\026\225\001\002\000\022\006\uffd3\015\uffd3\016\uffd3" +
+    "\017\uffd3\020\uffd3\025\uffd3\037\uffd3\042\uffd3\001\002\000" +
+    "\004\021\227\001\002\000\004\026\230\001\002\000\022" +
+    "\006\uffd8\015\uffd8\016\uffd8\017\uffd8\020\uffd8\025\uffd8\037" +
+    "\uffd8\042\uffd8\001\002\000\004\024\232\001\002\000\010" +
+    "\025\uffcd\031\uffcd\032\uffcd\001\002\000\010\025\234\031" +
+    "\120\032\122\001\002\000\004\026\235\001\002\000\024" +
+    "\006\uffe8\015\uffe8\016\uffe8\017\uffe8\020\uffe8\022\uffe8\025" +
+    "\uffe8\037\uffe8\042\uffe8\001\002\000\004\030\237\001\002" +
+    "\000\006\021\241\023\240\001\002\000\004\026\243\001" +
+    "\002\000\004\026\242\001\002\000\006\005\uffb9\037\uffb9" +
+    "\001\002\000\006\005\uffba\037\uffba\001\002\000\004\002" +
+    "\001\001\002\000\022\007\uffff\010\uffff\011\uffff\012\uffff" +
+    "\013\uffff\014\uffff\025\uffff\032\uffff\001\002\000\022\007" +
+    "\254\010\256\011\247\012\252\013\250\014\255\025\251" +
+    "\032\253\001\002\000\004\030\302\001\002\000\004\030" +
+    "\277\001\002\000\006\005\ufff6\037\ufff6\001\002\000\004" +
+    "\030\274\001\002\000\004\023\270\001\002\000\004\030" +
+    "\265\001\002\000\004\030\262\001\002\000\004\030\257" +
+    "\001\002\000\004\021\260\001\002\000\004\026\261\001" +
+    "\002\000\022\007\ufffc\010\ufffc\011\ufffc\012\ufffc\013\ufffc" +
+    "\014\ufffc\025\ufffc\032\ufffc\001\002\000\004\023\263\001" +
+    "\002\000\004\026\264\001\002\000\022\007\ufff8\010\ufff8" +
+    "\011\ufff8\012\ufff8\013\ufff8\014\ufff8\025\ufff8\032\ufff8\001" +
+    "\002\000\004\023\266\001\002\000\004\026\267\001\002" +
+    "\000\022\007\ufffe\010\ufffe\011\ufffe\012\ufffe\013\ufffe\014" +
+    "\ufffe\025\ufffe\032\ufffe\001\002\000\004\030\271\001\002" +
+    "\000\004\023\272\001\002\000\004\026\273\001\002\000" +
+    "\022\007\ufffd\010\ufffd\011\ufffd\012\ufffd\013\ufffd\014\ufffd" +
+    "\025\ufffd\032\ufffd\001\002\000\004\021\275\001\002\000" +
+    "\004\026\276\001\002\000\022\007\ufffa\010\ufffa\011\ufffa" +
+    "\012\ufffa\013\ufffa\014\ufffa\025\ufffa\032\ufffa\001\002\000" +
+    "\004\051\300\001\002\000\004\026\301\001\002\000\022" +
+    "\007\ufff9\010\ufff9\011\ufff9\012\ufff9\013\ufff9\014\ufff9\025" +
+    "\ufff9\032\ufff9\001\002\000\004\023\303\001\002\000\004" +
+    "\026\304\001\002\000\022\007\ufffb\010\ufffb\011\ufffb\012" +
+    "\ufffb\013\ufffb\014\ufffb\025\ufffb\032\ufffb\001\002" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -104,18 +229,48 @@ public class TestLangParser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\114\000\006\002\004\003\005\001\001\000\002\001" +
-    "\001\000\002\001\001\000\004\014\006\001\001\000\010" +
-    "\005\013\006\012\013\007\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\005\014\001\001" +
+    "\000\302\000\006\002\004\003\005\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\020\006\001\001\000\010" +
+    "\005\013\006\012\017\007\001\001\000\002\001\001\000" +
+    "\004\023\235\001\001\000\004\023\063\001\001\000\006" +
+    "\005\015\021\016\001\001\000\002\001\001\000\004\023" +
+    "\025\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\022\041\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\012\007\072\010\075\011\077" +
+    "\013\066\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\012\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\007\111\011\077\013\066\001\001\000\004\023\100" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\010\007\023\010\020\011\021\001\001\000\002\001\001" +
-    "\000\006\007\067\011\021\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\012" +
-    "\032\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\016\116\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\012\042" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\016\134\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\016\142\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\013\147\014\151\015\150\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\006\013\147\015\153\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\013\155\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\012\213\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
@@ -125,11 +280,20 @@ public class TestLangParser extends java_cup.runtime.lr_parser {
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\016\232\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\004\004\103\001\001\000\002\001\001\000\002\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\004\245\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001" });
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -170,23 +334,179 @@ public class TestLangParser extends java_cup.runtime.lr_parser {
 
   private Program program = new Program();
   
+  //listener mode: tests are handed over as soon as they are parsed instead of being kept in program
+  private ProgramListener listener;
+  private Set<String> streamedTests = new HashSet<>();
+
+  //carried by every Diagnostic, so errors of files parsed side by side can be told apart
+  private String sourceName;
+  
   public Program getProgram() {
     return program;
   }
 
+  public void setSourceName(String sourceName) {
+    this.sourceName = sourceName;
+  }
+
+  public void setListener(ProgramListener listener) {
+    this.listener = listener;
+  }
+
+  private void addTest(Test t) throws Exception {
+    if (listener != null) {
+      streamedTests.add(t.getName());
+      listener.testParsed(t);
+    } else {
+      program.addTest(t);
+    }
+  }
+
+  private void addLoad(Load l) throws Exception {
+    if (listener != null) {
+      listener.loadParsed(l);
+    } else {
+      program.addLoad(l);
+    }
+  }
+
+  //per test: whether a request came yet, and the names captured with let x = json "..." so far
+  private boolean requestSeen;
+  private Set<String> capturedNames = new HashSet<>();
+  //per test: the response names of parallel blocks so far, and whether the last request was in one
+  private Set<String> responseNames = new HashSet<>();
+  private boolean afterParallel;
+
+  //after a parallel block there is no single last response, a check has to name one
+  private void checkUnnamed(Symbol at) {
+    if (afterParallel) {
+      report_error("After a parallel block, name the response to check, e.g. expect user status = 200", at);
+    }
+  }
+
+  private void checkResponseName(String name, Symbol at) {
+    if (!responseNames.contains(name)) {
+      report_error("No response named " + name + " in a parallel block above", at);
+    }
+  }
+
+  //$name references in a string must be to variables declared above it
+  private void checkTemplate(String text, int left, int right) {
+    checkTemplate(text, left, right, false);
+  }
+
+  //captured values exist only while the test runs, so only requests can use them
+  private void checkTemplate(String text, int left, int right, boolean allowCaptured) {
+    if (text == null) return;
+    Symbol at = new Symbol(sym.STRING, left, right, text);
+    try {
+      for (String name : Template.parse(text).getNames()) {
+        if (program.getVariableValue(name) != null) continue;
+        if (!capturedNames.contains(name)) {
+          report_error("Undefined variable $" + name, at);
+        } else if (!allowCaptured) {
+          report_error("Captured variable $" + name + " can only be used in requests", at);
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      report_error(e.getMessage(), at);
+    }
+  }
+
+  //JSON paths are checked when the test file is compiled, not when the response arrives
+  private void checkJsonPath(String path, int left, int right) {
+    try {
+      runtime.JsonPaths.parse(path);
+    } catch (IllegalArgumentException e) {
+      report_error(e.getMessage(), new Symbol(sym.STRING, left, right, path));
+    }
+  }
+
+  private Request request(ast.HttpMethod method, String path, int left, int right, Request items) {
+    checkTemplate(path, left, right, true);
+    Request req = new Request(method, path);
+    if (items != null) {
+      req.getHeaders().putAll(items.getHeaders());
+      req.setBody(items.getBody());
+    }
+    requestSeen = true;
+    return req;
+  }
+
+  private boolean isDeclaredTest(String name) {
+    return listener != null ? streamedTests.contains(name) : program.getTest(name) != null;
+  }
+
+  //errors are collected instead of printed: semantic ones (e.g. users = 0) let parsing go on so one
+  //run reports them all, a syntax error ends the parse in unrecovered_syntax_error
+  private List<Diagnostic> diagnostics = new ArrayList<>();
+
+  public List<Diagnostic> getDiagnostics() {
+    return diagnostics;
+  }
+
+  public boolean hasErrors() {
+    for (Diagnostic d : diagnostics) {
+      if (d.isError()) return true;
+    }
+    return false;
+  }
+
   public void report_error(String message, Object info) {
-    if (info == null) {
-      System.err.println("Line ?: " + message);
+    diagnostics.add(Diagnostic.error(sourceName, message, info instanceof Symbol ? (Symbol) info : null));
+  }
+
+  public void syntax_error(Symbol token) {
+    if (token.sym == sym.error) {
+      //the scanner sends the one character it did not expect, or a whole message for a bad string
+      String text = (String) token.value;
+      report_error(text.codePointCount(0, text.length()) == 1 ? "Illegal character '" + text + "'" : text, token);
       return;
     }
-    Symbol s = (Symbol) info;
-    int line = (s.left) + 1; 
-    System.err.println("Line " + line + ": " + message);
+    String found = token.sym == sym.EOF ? "end of file" : "'" + (token.value != null ? token.value : lexeme()) + "'";
+    List<String> expected = expectedTerminals();
+    report_error("Syntax error at " + found + (expected.isEmpty() ? "" : ", expected " + String.join(" or ", expected)), token);
   }
-  
-  public void report_fatal_error(String message, Object info) {
-    report_error(message, info);
-    System.exit(1);
+
+  //keywords and punctuation carry no value; the token in error is the last one scanned, so its
+  //text is still the scanner's current lexeme and is only made into a String here
+  private String lexeme() {
+    return ((TestLangScanner) getScanner()).yytext();
+  }
+
+  //terminals with an explicit entry in the current state's action row (lr_parser.expected_token_ids
+  //comes back empty for this grammar); defaulted reductions are not listed, so this is a hint
+  private List<String> expectedTerminals() {
+    List<String> names = new ArrayList<>();
+    short[] row = action_tab[((Symbol) stack.peek()).parse_state];
+    for (int i = 0; i + 1 < row.length; i += 2) {
+      if (row[i] >= 0 && row[i] != sym.error && row[i + 1] != 0) {
+        names.add(sym.terminalNames[row[i]]);
+      }
+    }
+    return names;
+  }
+
+  //the grammar has no error productions, so syntax_error already reported the position
+  public void unrecovered_syntax_error(Symbol token) throws Exception {
+    done_parsing();
+    throw new Exception("Can't recover from previous error(s)");
+  }
+
+  //converts a TIME token such as 250ms, 60s or 5m to milliseconds
+  public static long parseMillis(String time) {
+    if (time.endsWith("ms")) {
+      return Long.parseLong(time.substring(0, time.length() - 2));
+    }
+    long n = Long.parseLong(time.substring(0, time.length() - 1));
+    return time.endsWith("m") ? n * 60_000 : n * 1_000;
+  }
+
+  //converts a FREQUENCY token such as 5000/s or 600/m to requests per second
+  public static double parsePerSecond(String frequency) {
+    int slash = frequency.indexOf('/');
+    double n = Double.parseDouble(frequency.substring(0, slash));
+    return frequency.endsWith("/m") ? n / 60 : n;
   }
 
 
@@ -242,7 +562,6 @@ class CUP$TestLangParser$actions {
 		int testsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
 		Object tests = (Object)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
 		 
-      parser.program.setConfig(cfg);
       RESULT = parser.program;
     
               CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("program",0, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
@@ -302,7 +621,121 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 5: // config_block ::= 
+          case 5: // config_items_list ::= config_items_list PARALLELISM EQUALS NUMBER SEMICOLON 
+            {
+              Config RESULT =null;
+		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String n = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      int threads = Integer.parseInt(n);
+      if (threads < 1) {
+        parser.report_error("parallelism must be at least 1", new Symbol(sym.NUMBER, nleft, nright, n));
+      }
+      cfg.setParallelism(threads);   // Step 2: Run tests on this many threads
+      RESULT = cfg;                  // Step 3: Return the updated Config
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("config_items_list",2, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // config_items_list ::= config_items_list HTTP_VERSION EQUALS STRING SEMICOLON 
+            {
+              Config RESULT =null;
+		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int vleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String v = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		
+      if (v.equals("h2") || v.equals("http2")) {
+        cfg.setHttp2(true);
+      } else if (v.equals("http1.1") || v.equals("h1")) {
+        cfg.setHttp2(false);
+      } else {
+        parser.report_error("http_version must be \"h2\" or \"http1.1\"", new Symbol(sym.STRING, vleft, vright, v));
+      }
+      RESULT = cfg;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("config_items_list",2, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // config_items_list ::= config_items_list MAX_CONNECTIONS EQUALS NUMBER SEMICOLON 
+            {
+              Config RESULT =null;
+		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String n = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		
+      int connections = Integer.parseInt(n);
+      if (connections < 1) {
+        parser.report_error("max_connections must be at least 1", new Symbol(sym.NUMBER, nleft, nright, n));
+      }
+      cfg.setMaxConnections(connections);
+      RESULT = cfg;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("config_items_list",2, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // config_items_list ::= config_items_list CONNECT_TIMEOUT EQUALS TIME SEMICOLON 
+            {
+              Config RESULT =null;
+		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String t = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		
+      long millis = TestLangParser.parseMillis(t);
+      if (millis < 1) {
+        parser.report_error("connect_timeout must be more than 0ms", new Symbol(sym.TIME, tleft, tright, t));
+      }
+      cfg.setConnectTimeoutMillis(millis);
+      RESULT = cfg;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("config_items_list",2, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // config_items_list ::= config_items_list EXECUTOR EQUALS STRING SEMICOLON 
+            {
+              Config RESULT =null;
+		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String e = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		
+      if (e.equals("virtual")) {
+        cfg.setVirtualThreads(true);
+      } else if (e.equals("platform")) {
+        cfg.setVirtualThreads(false);
+      } else {
+        parser.report_error("executor must be \"virtual\" or \"platform\"", new Symbol(sym.STRING, eleft, eright, e));
+      }
+      RESULT = cfg;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("config_items_list",2, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // config_block ::= 
             {
               Config RESULT =null;
 		
@@ -313,13 +746,14 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 6: // config_block ::= CONFIG LBRACE config_items_list RBRACE 
+          case 11: // config_block ::= CONFIG LBRACE config_items_list RBRACE 
             {
               Config RESULT =null;
 		int cfgleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
 		int cfgright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
 		Config cfg = (Config)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		
+      parser.program.setConfig(cfg);  // set right away, listeners need it before the first test
       RESULT = cfg;  // Return the built Config
       //System.out.println("⚙️  Config: " + cfg);
     
@@ -328,7 +762,7 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 7: // test_block ::= TEST IDENTIFIER LBRACE statement_list RBRACE 
+          case 12: // test_block ::= TEST identifier LBRACE statement_list RBRACE 
             {
               Test RESULT =null;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
@@ -339,6 +773,10 @@ class CUP$TestLangParser$actions {
 		List<Statement> stmts = (List<Statement>)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
       RESULT = new Test(name, stmts);
+      parser.requestSeen = false;
+      parser.afterParallel = false;
+      parser.capturedNames.clear();
+      parser.responseNames.clear();
       //System.out.println("🧪 Test: " + RESULT);
     
               CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("test_block",3, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
@@ -346,14 +784,14 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 8: // test_block_list ::= test_block 
+          case 13: // test_block_list ::= test_block 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
 		int tright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
 		Test t = (Test)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
 		 
-      parser.program.addTest(t);
+      parser.addTest(t);
       RESULT = null;  // Add this line
     
               CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("test_block_list",4, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
@@ -361,14 +799,14 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 9: // test_block_list ::= test_block_list test_block 
+          case 14: // test_block_list ::= test_block_list test_block 
             {
               Object RESULT =null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
 		int tright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
 		Test t = (Test)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
 		 
-      parser.program.addTest(t);
+      parser.addTest(t);
       RESULT = null;  // Add this line
     
               CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("test_block_list",4, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
@@ -376,220 +814,919 @@ class CUP$TestLangParser$actions {
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 10: // statement ::= GET STRING SEMICOLON 
+          case 15: // test_block_list ::= test_block_list load_block 
             {
-              Statement RESULT =null;
-		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Object RESULT =null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Load l = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
 		 
-      //System.out.println("  📡 GET " + path);
-      RESULT = new Request(ast.HttpMethod.GET, path);
+      parser.addLoad(l);
+      RESULT = null;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("test_block_list",4, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 11: // statement ::= POST STRING LBRACE request_body RBRACE SEMICOLON 
+          case 16: // load_block ::= LOAD identifier LBRACE load_items_list RBRACE 
             {
-              Statement RESULT =null;
-		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
-		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
-		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
-		String body = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
+              Load RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int itemsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int itemsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		Load items = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      //System.out.println("  📡 POST " + path);
-      Request req = new Request(ast.HttpMethod.POST, path);
-      if (body != null) req.setBody(body);
-      RESULT = req;
+      Test target = parser.program.getTest(name);   // null in listener mode
+      if (!parser.isDeclaredTest(name)) {
+        parser.report_error("load refers to unknown test " + name,
+          new Symbol(sym.IDENTIFIER, nameleft, nameright, name));
+      }
+      Load load = new Load(name, target);
+      load.setUsers(items.getUsers());
+      load.setDurationMillis(items.getDurationMillis());
+      load.setWarmupMillis(items.getWarmupMillis());
+      load.setRatePerSecond(items.getRatePerSecond());
+      RESULT = load;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_block",15, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 12: // statement ::= PUT STRING LBRACE request_body RBRACE SEMICOLON 
+          case 17: // load_items_list ::= 
             {
-              Statement RESULT =null;
-		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
-		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
-		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
-		int bodyleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
-		int bodyright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
-		String body = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
+              Load RESULT =null;
 		 
-      //System.out.println("  📡 PUT " + path);
-      Request req = new Request(ast.HttpMethod.PUT, path);
-      if (body != null) req.setBody(body);
-      RESULT = req;
+      RESULT = new Load(null, null);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_items_list",16, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 13: // statement ::= DELETE STRING SEMICOLON 
+          case 18: // load_items_list ::= load_items_list USERS EQUALS NUMBER SEMICOLON 
             {
-              Statement RESULT =null;
-		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Load RESULT =null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Load l = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String n = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      //System.out.println("  📡 DELETE " + path);
-      RESULT = new Request(ast.HttpMethod.DELETE, path);
+      int users = Integer.parseInt(n);
+      if (users < 1) {
+        parser.report_error("users must be at least 1", new Symbol(sym.NUMBER, nleft, nright, n));
+      }
+      l.setUsers(users);
+      RESULT = l;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_items_list",16, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 14: // statement ::= assertion 
+          case 19: // load_items_list ::= load_items_list DURATION EQUALS TIME SEMICOLON 
             {
-              Statement RESULT =null;
-		int aleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
-		int aright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
-		Assertion a = (Assertion)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+              Load RESULT =null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Load l = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String t = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      RESULT = a;
+      l.setDurationMillis(TestLangParser.parseMillis(t));
+      RESULT = l;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_items_list",16, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 15: // statement_list ::= statement 
+          case 20: // load_items_list ::= load_items_list WARMUP EQUALS TIME SEMICOLON 
             {
-              List<Statement> RESULT =null;
-		int sleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+              Load RESULT =null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Load l = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String t = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-     //System.out.println("  → 1 statement parsed");
-      List<Statement> list = new ArrayList<>();
-      list.add(s);
-      RESULT = list;
+      l.setWarmupMillis(TestLangParser.parseMillis(t));
+      RESULT = l;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement_list",6, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_items_list",16, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 16: // statement_list ::= statement_list statement 
+          case 21: // load_items_list ::= load_items_list RATE EQUALS FREQUENCY SEMICOLON 
             {
-              List<Statement> RESULT =null;
-		int listleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int listright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		List<Statement> list = (List<Statement>)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
-		int sleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
-		int sright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
-		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+              Load RESULT =null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Load l = (Load)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String f = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      //System.out.println("  → Another statement parsed");
-      list.add(s);
-      RESULT = list;
+      double rate = TestLangParser.parsePerSecond(f);
+      if (rate <= 0) {
+        parser.report_error("rate must be above 0", new Symbol(sym.FREQUENCY, fleft, fright, f));
+      }
+      l.setRatePerSecond(rate);
+      RESULT = l;
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement_list",6, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("load_items_list",16, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 17: // assertion ::= EXPECT STATUS EQUALS NUMBER SEMICOLON 
+          case 22: // request ::= GET STRING SEMICOLON 
             {
-              Assertion RESULT =null;
-		int codeleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int coderight = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String code = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      //System.out.println("  ✓ Expect status = " + code);
-      RESULT = Assertion.status(Integer.parseInt(code));
+      //System.out.println("  📡 GET " + path);
+      RESULT = parser.request(ast.HttpMethod.GET, path, pathleft, pathright, null);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 18: // assertion ::= EXPECT BODY CONTAINS STRING SEMICOLON 
+          case 23: // request ::= GET STRING LBRACE request_items RBRACE SEMICOLON 
             {
-              Assertion RESULT =null;
-		int textleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int textright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String text = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int itemsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
+		int itemsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
+		Request items = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
 		 
-      //System.out.println("  ✓ Expect body contains: " + text);
-      RESULT = Assertion.bodyContains(text);
+      if (items.getBody() != null) {
+        parser.report_error("GET requests cannot have a body", new Symbol(sym.STRING, pathleft, pathright, path));
+      }
+      RESULT = parser.request(ast.HttpMethod.GET, path, pathleft, pathright, items);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 19: // assertion ::= EXPECT HEADER STRING EQUALS STRING SEMICOLON 
+          case 24: // request ::= POST STRING LBRACE request_items RBRACE SEMICOLON 
             {
-              Assertion RESULT =null;
-		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
-		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
-		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int itemsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
+		int itemsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
+		Request items = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
 		 
-      //System.out.println("  ✓ Expect header " + name + " = " + value);
-      RESULT = Assertion.headerEquals(name, value);
+      //System.out.println("  📡 POST " + path);
+      RESULT = parser.request(ast.HttpMethod.POST, path, pathleft, pathright, items);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 20: // assertion ::= EXPECT HEADER STRING CONTAINS STRING SEMICOLON 
+          case 25: // request ::= PUT STRING LBRACE request_items RBRACE SEMICOLON 
             {
-              Assertion RESULT =null;
-		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
-		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
-		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
-		int substrleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int substrright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String substr = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int itemsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
+		int itemsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
+		Request items = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
 		 
-      //System.out.println("  ✓ Expect header " + name + " contains: " + substr);
-      RESULT = Assertion.headerContains(name, substr);
+      //System.out.println("  📡 PUT " + path);
+      RESULT = parser.request(ast.HttpMethod.PUT, path, pathleft, pathright, items);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 21: // request_body ::= 
+          case 26: // request ::= DELETE STRING SEMICOLON 
             {
-              String RESULT =null;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
-      //System.out.println("    (no req body)");
-      RESULT = null;
+      //System.out.println("  📡 DELETE " + path);
+      RESULT = parser.request(ast.HttpMethod.DELETE, path, pathleft, pathright, null);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request_body",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 22: // request_body ::= BODY EQUALS STRING SEMICOLON 
+          case 27: // request ::= DELETE STRING LBRACE request_items RBRACE SEMICOLON 
             {
-              String RESULT =null;
-		int contentleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
-		int contentright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
-		String content = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+              Request RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int itemsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
+		int itemsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
+		Request items = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
+		 
+      if (items.getBody() != null) {
+        parser.report_error("DELETE requests cannot have a body", new Symbol(sym.STRING, pathleft, pathright, path));
+      }
+      RESULT = parser.request(ast.HttpMethod.DELETE, path, pathleft, pathright, items);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // statement ::= request 
+            {
+              Statement RESULT =null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      parser.afterParallel = false;
+      RESULT = r;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // statement ::= PARALLEL LBRACE parallel_list RBRACE 
+            {
+              Statement RESULT =null;
+		int requestsleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int requestsright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		List<Request> requests = (List<Request>)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.afterParallel = true;
+      RESULT = new Parallel(requests);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // statement ::= LET identifier EQUALS JSON STRING SEMICOLON 
+            {
+              Statement RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //"let token = json "$.token";" - takes a value out of the last response for later requests
+      parser.checkJsonPath(path, pathleft, pathright);
+      if (parser.program.getVariableValue(name) != null) {
+        parser.report_error("$" + name + " is already declared with let", new Symbol(sym.IDENTIFIER, nameleft, nameright, name));
+      }
+      if (!parser.requestSeen) {
+        parser.report_error("let " + name + " = json needs a request before it in the test",
+          new Symbol(sym.STRING, pathleft, pathright, path));
+      }
+      parser.checkUnnamed(new Symbol(sym.STRING, pathleft, pathright, path));
+      parser.capturedNames.add(name);
+      RESULT = new Capture(name, path);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // statement ::= LET identifier EQUALS IDENTIFIER JSON STRING SEMICOLON 
+            {
+              Statement RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).value;
+		int fromleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int fromright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String from = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //"let id = user json "$.id";" - from the response named user in a parallel block
+      parser.checkJsonPath(path, pathleft, pathright);
+      if (parser.program.getVariableValue(name) != null) {
+        parser.report_error("$" + name + " is already declared with let", new Symbol(sym.IDENTIFIER, nameleft, nameright, name));
+      }
+      parser.checkResponseName(from, new Symbol(sym.IDENTIFIER, fromleft, fromright, from));
+      parser.capturedNames.add(name);
+      Capture c = new Capture(name, path);
+      c.setTarget(from);
+      RESULT = c;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-6)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // statement ::= assertion 
+            {
+              Statement RESULT =null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Assertion a = (Assertion)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      RESULT = a;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement",5, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // statement_list ::= statement 
+            {
+              List<Statement> RESULT =null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+     //System.out.println("  → 1 statement parsed");
+      List<Statement> list = new ArrayList<>();
+      list.add(s);
+      RESULT = list;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement_list",6, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // statement_list ::= statement_list statement 
+            {
+              List<Statement> RESULT =null;
+		int listleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int listright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		List<Statement> list = (List<Statement>)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      //System.out.println("  → Another statement parsed");
+      list.add(s);
+      RESULT = list;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("statement_list",6, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // parallel_list ::= parallel_item 
+            {
+              List<Request> RESULT =null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      List<Request> list = new ArrayList<>();
+      list.add(r);
+      RESULT = list;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("parallel_list",10, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // parallel_list ::= parallel_list parallel_item 
+            {
+              List<Request> RESULT =null;
+		int listleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int listright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		List<Request> list = (List<Request>)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      list.add(r);
+      RESULT = list;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("parallel_list",10, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // parallel_item ::= request 
+            {
+              Request RESULT =null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      RESULT = r;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("parallel_item",11, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // parallel_item ::= IDENTIFIER EQUALS request 
+            {
+              Request RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      if (!parser.responseNames.add(name)) {
+        parser.report_error("A response named " + name + " is already in this test",
+          new Symbol(sym.IDENTIFIER, nameleft, nameright, name));
+      }
+      r.setName(name);
+      RESULT = r;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("parallel_item",11, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // assertion ::= EXPECT check 
+            {
+              Assertion RESULT =null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Assertion a = (Assertion)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      parser.checkUnnamed(new Symbol(sym.EXPECT, eleft, eright, "expect"));
+      RESULT = a;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // assertion ::= EXPECT IDENTIFIER check 
+            {
+              Assertion RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		Assertion a = (Assertion)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      parser.checkResponseName(name, new Symbol(sym.IDENTIFIER, nameleft, nameright, name));
+      a.setTarget(name);
+      RESULT = a;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("assertion",7, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-2)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // check ::= STATUS EQUALS NUMBER SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int codeleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int coderight = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String code = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //System.out.println("  ✓ Expect status = " + code);
+      RESULT = Assertion.status(Integer.parseInt(code));
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // check ::= BODY CONTAINS STRING SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int textleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int textright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String text = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //System.out.println("  ✓ Expect body contains: " + text);
+      parser.checkTemplate(text, textleft, textright);
+      RESULT = Assertion.bodyContains(text);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // check ::= HEADER STRING EQUALS STRING SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //System.out.println("  ✓ Expect header " + name + " = " + value);
+      parser.checkTemplate(value, valueleft, valueright);
+      RESULT = Assertion.headerEquals(name, value);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // check ::= HEADER STRING CONTAINS STRING SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int substrleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int substrright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String substr = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //System.out.println("  ✓ Expect header " + name + " contains: " + substr);
+      parser.checkTemplate(substr, substrleft, substrright);
+      RESULT = Assertion.headerContains(name, substr);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // check ::= LATENCY LESS TIME SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int limitleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int limitright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String limit = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      RESULT = Assertion.latencyBelow(TestLangParser.parseMillis(limit));
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // check ::= TTFB LESS TIME SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int limitleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int limitright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String limit = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      RESULT = Assertion.ttfbBelow(TestLangParser.parseMillis(limit));
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // check ::= JSON STRING EQUALS NUMBER SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.checkJsonPath(path, pathleft, pathright);
+      RESULT = Assertion.jsonEquals(path, value, false);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // check ::= JSON STRING EQUALS DECIMAL SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.checkJsonPath(path, pathleft, pathright);
+      RESULT = Assertion.jsonEquals(path, value, false);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // check ::= JSON STRING EQUALS STRING SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.checkJsonPath(path, pathleft, pathright);
+      parser.checkTemplate(value, valueleft, valueright);
+      RESULT = Assertion.jsonEquals(path, value, true);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // check ::= JSON STRING EQUALS IDENTIFIER SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      //true, false and null scan as identifiers
+      parser.checkJsonPath(path, pathleft, pathright);
+      if (!value.equals("true") && !value.equals("false") && !value.equals("null")) {
+        parser.report_error("expected a number, a string, true, false or null, not " + value,
+          new Symbol(sym.IDENTIFIER, valueleft, valueright, value));
+      }
+      RESULT = Assertion.jsonEquals(path, value, false);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // check ::= JSON STRING SIZE EQUALS NUMBER SEMICOLON 
+            {
+              Assertion RESULT =null;
+		int pathleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int pathright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		String path = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String n = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.checkJsonPath(path, pathleft, pathright);
+      RESULT = Assertion.jsonSize(path, Integer.parseInt(n));
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("check",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // request_items ::= 
+            {
+              Request RESULT =null;
+		 
+      //System.out.println("    (no req body)");
+      RESULT = new Request(null, null);
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request_items",12, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // request_items ::= request_items BODY EQUALS STRING SEMICOLON 
+            {
+              Request RESULT =null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)).value;
+		int contentleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int contentright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String content = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
 		 
       //System.out.println("    📄 body = " + content);
-      RESULT = content;
+      if (r.getBody() != null) {
+        parser.report_error("request has more than one body", new Symbol(sym.STRING, contentleft, contentright, content));
+      }
+      parser.checkTemplate(content, contentleft, contentright, true);
+      r.setBody(content);
+      RESULT = r;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request_items",12, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // request_items ::= request_items HEADER STRING EQUALS STRING SEMICOLON 
+            {
+              Request RESULT =null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).right;
+		Request r = (Request)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)).value;
+		int keyleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
+		int keyright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).right;
+		String key = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).value;
+		int valueleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).left;
+		int valueright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).right;
+		String value = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)).value;
+		 
+      parser.checkTemplate(value, valueleft, valueright, true);
+      r.addHeader(key, value);
+      RESULT = r;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request_items",12, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-5)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // identifier ::= IDENTIFIER 
+            {
+              String RESULT =null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$TestLangParser$stack.peek()).value;
+		 
+      RESULT = name;
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // identifier ::= JSON 
+            {
+              String RESULT =null;
+		 
+      RESULT = "json";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // identifier ::= SIZE 
+            {
+              String RESULT =null;
+		 
+      RESULT = "size";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // identifier ::= PARALLEL 
+            {
+              String RESULT =null;
+		 
+      RESULT = "parallel";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // identifier ::= LOAD 
+            {
+              String RESULT =null;
+		 
+      RESULT = "load";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // identifier ::= USERS 
+            {
+              String RESULT =null;
+		 
+      RESULT = "users";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // identifier ::= DURATION 
+            {
+              String RESULT =null;
+		 
+      RESULT = "duration";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // identifier ::= WARMUP 
+            {
+              String RESULT =null;
+		 
+      RESULT = "warmup";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // identifier ::= RATE 
+            {
+              String RESULT =null;
+		 
+      RESULT = "rate";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // identifier ::= PARALLELISM 
+            {
+              String RESULT =null;
+		 
+      RESULT = "parallelism";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // identifier ::= LATENCY 
+            {
+              String RESULT =null;
+		 
+      RESULT = "latency";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // identifier ::= TTFB 
+            {
+              String RESULT =null;
+		 
+      RESULT = "ttfb";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // identifier ::= HTTP_VERSION 
+            {
+              String RESULT =null;
+		 
+      RESULT = "http_version";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // identifier ::= MAX_CONNECTIONS 
+            {
+              String RESULT =null;
+		 
+      RESULT = "max_connections";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // identifier ::= CONNECT_TIMEOUT 
+            {
+              String RESULT =null;
+		 
+      RESULT = "connect_timeout";
+    
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+            }
+          return CUP$TestLangParser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // identifier ::= EXECUTOR 
+            {
+              String RESULT =null;
+		 
+      RESULT = "executor";
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("request_body",8, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("identifier",17, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 23: // variable_decl ::= LET IDENTIFIER EQUALS STRING SEMICOLON 
+          case 71: // variable_decl ::= LET identifier EQUALS STRING SEMICOLON 
             {
               Variable RESULT =null;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
@@ -602,12 +1739,12 @@ class CUP$TestLangParser$actions {
       RESULT = new Variable(name, value);
       //System.out.println("📌 Variable: " + RESULT);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_decl",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_decl",13, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 24: // variable_decl ::= LET IDENTIFIER EQUALS NUMBER SEMICOLON 
+          case 72: // variable_decl ::= LET identifier EQUALS NUMBER SEMICOLON 
             {
               Variable RESULT =null;
 		int nameleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-3)).left;
@@ -620,23 +1757,23 @@ class CUP$TestLangParser$actions {
       RESULT = new Variable(name, value);
       //System.out.println("📌 Variable: " + RESULT);
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_decl",9, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_decl",13, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-4)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 25: // variable_list ::= 
+          case 73: // variable_list ::= 
             {
               Object RESULT =null;
 		 
       RESULT = null;  // Add this line
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_list",10, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_list",14, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 26: // variable_list ::= variable_list variable_decl 
+          case 74: // variable_list ::= variable_list variable_decl 
             {
               Object RESULT =null;
 		int varleft = ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()).left;
@@ -646,7 +1783,7 @@ class CUP$TestLangParser$actions {
       parser.program.addVariable(var);
       RESULT = null;  // Add this line
     
-              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_list",10, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
+              CUP$TestLangParser$result = parser.getSymbolFactory().newSymbol("variable_list",14, ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.elementAt(CUP$TestLangParser$top-1)), ((java_cup.runtime.Symbol)CUP$TestLangParser$stack.peek()), RESULT);
             }
           return CUP$TestLangParser$result;
 
@@ -16,6 +16,7 @@ class TestLangScanner implements java_cup.runtime.Scanner {
 
   // Lexical states.
   public static final int YYINITIAL = 0;
+  public static final int STRING = 2;
 
   /**
    * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
@@ -24,7 +25,7 @@ class TestLangScanner implements java_cup.runtime.Scanner {
    * l is of the form l = 2*k, k a non negative integer
    */
   private static final int ZZ_LEXSTATE[] = {
-     0, 0
+     0,  0,  1, 1
   };
 
   /**
@@ -61,15 +62,15 @@ class TestLangScanner implements java_cup.runtime.Scanner {
   private static final int [] ZZ_CMAP_BLOCKS = zzUnpackcmap_blocks();
 
   private static final String ZZ_CMAP_BLOCKS_PACKED_0 =
-    "\11\0\1\1\1\2\2\0\1\3\22\0\1\1\1\0"+
-    "\1\4\14\0\1\5\12\6\1\0\1\7\1\0\1\10"+
-    "\3\0\3\11\1\12\1\13\1\11\1\14\4\11\1\15"+
-    "\2\11\1\16\1\17\2\11\1\20\1\21\1\22\5\11"+
-    "\1\0\1\23\2\0\1\24\1\0\1\25\1\26\1\27"+
-    "\1\30\1\31\1\32\1\33\1\34\1\35\2\11\1\36"+
-    "\1\11\1\37\1\40\1\41\1\11\1\42\1\43\1\44"+
-    "\1\45\2\11\1\46\1\47\1\11\1\50\1\0\1\51"+
-    "\u0182\0";
+    "\11\0\1\1\1\2\1\0\1\1\1\3\22\0\1\1"+
+    "\1\0\1\4\10\0\1\5\1\0\1\6\1\7\1\10"+
+    "\12\11\1\0\1\12\1\13\1\14\3\0\3\15\1\16"+
+    "\1\17\1\15\1\20\4\21\1\22\2\21\1\23\1\24"+
+    "\2\21\1\25\1\26\1\27\5\21\1\0\1\30\2\0"+
+    "\1\31\1\0\1\32\1\33\1\34\1\35\1\36\1\37"+
+    "\1\40\1\41\1\42\1\43\1\21\1\44\1\45\1\46"+
+    "\1\47\1\50\1\21\1\51\1\52\1\53\1\54\1\55"+
+    "\1\56\1\57\1\60\1\61\1\62\1\0\1\63\u0182\0";
 
   private static int [] zzUnpackcmap_blocks() {
     int [] result = new int[512];
@@ -96,14 +97,21 @@ class TestLangScanner implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ACTION = zzUnpackAction();
 
   private static final String ZZ_ACTION_PACKED_0 =
-    "\1\0\1\1\2\0\1\2\1\3\1\4\13\5\1\6"+
-    "\1\7\1\10\1\0\1\11\15\5\1\12\1\5\1\13"+
-    "\5\5\1\14\3\5\1\15\1\5\1\16\5\5\1\17"+
-    "\7\5\1\20\1\5\1\21\1\5\1\22\1\23\1\24"+
-    "\2\5\1\25\1\26";
+    "\2\0\1\1\1\2\1\3\2\1\1\4\1\5\1\6"+
+    "\1\7\22\10\1\11\1\12\1\13\1\14\1\15\1\16"+
+    "\1\17\1\20\3\0\2\21\30\10\1\16\1\22\1\23"+
+    "\1\24\1\25\1\26\1\27\1\30\1\31\1\16\1\17"+
+    "\1\32\1\0\1\17\1\10\1\33\1\10\1\34\12\10"+
+    "\1\35\12\10\1\0\1\10\1\36\1\10\1\37\10\10"+
+    "\1\40\1\10\1\41\2\10\1\42\1\43\1\10\1\44"+
+    "\1\45\2\10\1\0\16\10\1\46\1\10\1\0\1\47"+
+    "\1\10\1\50\4\10\1\51\1\52\4\10\1\53\1\54"+
+    "\1\55\6\10\1\56\2\10\1\57\1\10\1\60\1\61"+
+    "\1\62\2\10\1\63\13\10\1\64\1\10\1\65\5\10"+
+    "\1\66\1\67";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[75];
+    int [] result = new int[202];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -128,19 +136,35 @@ class TestLangScanner implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\52\0\124\0\176\0\250\0\52\0\52\0\322"+
-    "\0\374\0\u0126\0\u0150\0\u017a\0\u01a4\0\u01ce\0\u01f8\0\u0222"+
-    "\0\u024c\0\u0276\0\52\0\52\0\52\0\u02a0\0\u02ca\0\u02f4"+
-    "\0\u031e\0\u0348\0\u0372\0\u039c\0\u03c6\0\u03f0\0\u041a\0\u0444"+
-    "\0\u046e\0\u0498\0\u04c2\0\u04ec\0\322\0\u0516\0\322\0\u0540"+
-    "\0\u056a\0\u0594\0\u05be\0\u05e8\0\322\0\u0612\0\u063c\0\u0666"+
-    "\0\322\0\u0690\0\322\0\u06ba\0\u06e4\0\u070e\0\u0738\0\u0762"+
-    "\0\322\0\u078c\0\u07b6\0\u07e0\0\u080a\0\u0834\0\u085e\0\u0888"+
-    "\0\322\0\u08b2\0\322\0\u08dc\0\322\0\322\0\322\0\u0906"+
-    "\0\u0930\0\322\0\322";
+    "\0\0\0\64\0\150\0\150\0\150\0\234\0\320\0\u0104"+
+    "\0\150\0\150\0\150\0\u0138\0\u016c\0\u01a0\0\u01d4\0\u0208"+
+    "\0\u023c\0\u0270\0\u02a4\0\u02d8\0\u030c\0\u0340\0\u0374\0\u03a8"+
+    "\0\u03dc\0\u0410\0\u0444\0\u0478\0\u04ac\0\150\0\150\0\u04e0"+
+    "\0\150\0\150\0\u0514\0\u0548\0\u057c\0\u05b0\0\u05e4\0\u0618"+
+    "\0\u064c\0\150\0\u0680\0\u06b4\0\u06e8\0\u071c\0\u0750\0\u0784"+
+    "\0\u07b8\0\u07ec\0\u0820\0\u0854\0\u0888\0\u08bc\0\u08f0\0\u0924"+
+    "\0\u0958\0\u098c\0\u09c0\0\u09f4\0\u0a28\0\u0a5c\0\u0a90\0\u0ac4"+
+    "\0\u0af8\0\u0b2c\0\150\0\150\0\150\0\150\0\150\0\150"+
+    "\0\150\0\150\0\150\0\u0b60\0\u0b94\0\150\0\u0bc8\0\u0bc8"+
+    "\0\u0bfc\0\u0138\0\u0c30\0\u0138\0\u0c64\0\u0c98\0\u0ccc\0\u0d00"+
+    "\0\u0d34\0\u0d68\0\u0d9c\0\u0dd0\0\u0e04\0\u0e38\0\u0138\0\u0e6c"+
+    "\0\u0ea0\0\u0ed4\0\u0f08\0\u0f3c\0\u0f70\0\u0fa4\0\u0fd8\0\u100c"+
+    "\0\u1040\0\u1074\0\u10a8\0\u0138\0\u10dc\0\u0138\0\u1110\0\u1144"+
+    "\0\u1178\0\u11ac\0\u11e0\0\u1214\0\u1248\0\u127c\0\u0138\0\u12b0"+
+    "\0\u0138\0\u12e4\0\u1318\0\u0138\0\u0138\0\u134c\0\u0138\0\u0138"+
+    "\0\u1380\0\u13b4\0\u13e8\0\u141c\0\u1450\0\u1484\0\u14b8\0\u14ec"+
+    "\0\u1520\0\u1554\0\u1588\0\u15bc\0\u15f0\0\u1624\0\u1658\0\u168c"+
+    "\0\u16c0\0\u0138\0\u16f4\0\u1728\0\u0138\0\u175c\0\u0138\0\u1790"+
+    "\0\u17c4\0\u17f8\0\u182c\0\u0138\0\u0138\0\u1860\0\u1894\0\u18c8"+
+    "\0\u18fc\0\u0138\0\u0138\0\150\0\u1930\0\u1964\0\u1998\0\u19cc"+
+    "\0\u1a00\0\u1a34\0\u0138\0\u1a68\0\u1a9c\0\u0138\0\u1ad0\0\u0138"+
+    "\0\u0138\0\u0138\0\u1b04\0\u1b38\0\u1b6c\0\u1ba0\0\u1bd4\0\u1c08"+
+    "\0\u1c3c\0\u1c70\0\u1ca4\0\u1cd8\0\u1d0c\0\u1d40\0\u1d74\0\u1da8"+
+    "\0\u0138\0\u1ddc\0\u0138\0\u1e10\0\u1e44\0\u1e78\0\u1eac\0\u1ee0"+
+    "\0\u0138\0\u0138";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[75];
+    int [] result = new int[202];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -163,66 +187,162 @@ class TestLangScanner implements java_cup.runtime.Scanner {
   private static final int [] ZZ_TRANS = zzUnpacktrans();
 
   private static final String ZZ_TRANS_PACKED_0 =
-    "\1\0\2\2\1\0\1\3\1\4\1\5\1\6\1\7"+
-    "\1\10\1\11\1\10\1\12\2\10\1\13\3\10\1\0"+
-    "\2\10\1\14\1\15\1\10\1\16\2\10\1\17\1\10"+
-    "\1\20\4\10\1\21\1\22\3\10\1\23\1\24\52\0"+
-    "\2\3\2\0\1\25\16\3\1\26\26\3\5\0\1\27"+
-    "\52\0\1\5\51\0\1\10\2\0\12\10\1\0\24\10"+
-    "\10\0\1\10\2\0\2\10\1\30\7\10\1\0\24\10"+
-    "\10\0\1\10\2\0\2\10\1\31\7\10\1\0\24\10"+
-    "\10\0\1\10\2\0\5\10\1\32\3\10\1\33\1\0"+
-    "\24\10\10\0\1\10\2\0\12\10\1\0\1\10\1\34"+
-    "\12\10\1\35\7\10\10\0\1\10\2\0\12\10\1\0"+
-    "\14\10\1\36\7\10\10\0\1\10\2\0\12\10\1\0"+
-    "\22\10\1\37\1\10\10\0\1\10\2\0\12\10\1\0"+
-    "\5\10\1\40\16\10\10\0\1\10\2\0\12\10\1\0"+
-    "\5\10\1\41\16\10\10\0\1\10\2\0\12\10\1\0"+
-    "\20\10\1\42\3\10\10\0\1\10\2\0\12\10\1\0"+
-    "\5\10\1\43\16\10\6\0\1\3\16\0\1\3\26\0"+
-    "\2\27\1\0\47\27\6\0\1\10\2\0\4\10\1\44"+
-    "\5\10\1\0\24\10\10\0\1\10\2\0\10\10\1\45"+
-    "\1\10\1\0\24\10\10\0\1\10\2\0\7\10\1\46"+
-    "\2\10\1\0\24\10\10\0\1\10\2\0\10\10\1\47"+
-    "\1\10\1\0\24\10\10\0\1\10\2\0\12\10\1\0"+
-    "\17\10\1\50\4\10\10\0\1\10\2\0\12\10\1\0"+
-    "\4\10\1\51\17\10\10\0\1\10\2\0\12\10\1\0"+
-    "\13\10\1\52\10\10\10\0\1\10\2\0\12\10\1\0"+
-    "\15\10\1\53\6\10\10\0\1\10\2\0\12\10\1\0"+
-    "\1\10\1\54\22\10\10\0\1\10\2\0\12\10\1\0"+
-    "\20\10\1\55\3\10\10\0\1\10\2\0\12\10\1\0"+
-    "\1\10\1\56\22\10\10\0\1\10\2\0\12\10\1\0"+
-    "\17\10\1\57\4\10\10\0\1\10\2\0\2\10\1\60"+
-    "\7\10\1\0\24\10\10\0\1\10\2\0\10\10\1\61"+
-    "\1\10\1\0\24\10\10\0\1\10\2\0\12\10\1\0"+
-    "\5\10\1\62\16\10\10\0\1\10\2\0\12\10\1\0"+
-    "\23\10\1\63\10\0\1\10\2\0\12\10\1\0\6\10"+
-    "\1\64\11\10\1\65\3\10\10\0\1\10\2\0\12\10"+
-    "\1\0\5\10\1\66\16\10\10\0\1\10\2\0\12\10"+
-    "\1\0\4\10\1\67\17\10\10\0\1\10\2\0\12\10"+
-    "\1\0\20\10\1\70\3\10\10\0\1\10\2\0\12\10"+
-    "\1\0\20\10\1\71\3\10\10\0\1\10\2\0\10\10"+
-    "\1\72\1\10\1\0\24\10\10\0\1\10\2\0\12\10"+
-    "\1\0\1\73\23\10\10\0\1\10\2\0\12\10\1\0"+
-    "\11\10\1\74\12\10\10\0\1\10\2\0\12\10\1\0"+
-    "\1\10\1\75\22\10\10\0\1\10\2\0\12\10\1\0"+
-    "\3\10\1\76\20\10\10\0\1\10\2\0\12\10\1\0"+
-    "\5\10\1\77\16\10\10\0\1\10\2\0\12\10\1\0"+
-    "\21\10\1\100\2\10\10\0\1\10\2\0\2\10\1\101"+
-    "\7\10\1\0\24\10\10\0\1\10\2\0\12\10\1\0"+
-    "\21\10\1\102\2\10\10\0\1\10\2\0\12\10\1\0"+
-    "\7\10\1\103\14\10\10\0\1\10\2\0\12\10\1\0"+
-    "\11\10\1\104\12\10\10\0\1\10\2\0\12\10\1\0"+
-    "\20\10\1\105\3\10\10\0\1\10\2\0\12\10\1\0"+
-    "\16\10\1\106\5\10\10\0\1\10\2\0\12\10\1\0"+
-    "\17\10\1\107\4\10\10\0\1\10\2\0\12\10\1\0"+
-    "\16\10\1\110\5\10\10\0\1\10\2\0\12\10\1\0"+
-    "\13\10\1\111\10\10\10\0\1\10\2\0\12\10\1\0"+
-    "\12\10\1\112\11\10\10\0\1\10\2\0\12\10\1\0"+
-    "\17\10\1\113\4\10\2\0";
+    "\1\3\3\4\1\5\1\3\1\6\1\3\1\7\1\10"+
+    "\1\11\1\12\1\13\1\14\1\15\1\14\1\16\3\14"+
+    "\1\17\3\14\1\3\2\14\1\20\1\21\1\22\1\23"+
+    "\2\14\1\24\1\14\1\25\1\26\1\27\2\14\1\30"+
+    "\1\31\1\32\1\33\1\34\1\14\1\35\3\14\1\36"+
+    "\1\37\2\40\2\41\1\42\23\40\1\43\33\40\75\0"+
+    "\1\44\62\0\1\45\62\0\1\46\1\47\1\10\5\0"+
+    "\1\50\16\0\1\50\6\0\1\51\4\0\1\52\22\0"+
+    "\1\14\3\0\13\14\1\0\31\14\13\0\1\14\3\0"+
+    "\2\14\1\53\10\14\1\0\31\14\13\0\1\14\3\0"+
+    "\2\14\1\54\10\14\1\0\31\14\13\0\1\14\3\0"+
+    "\6\14\1\55\3\14\1\56\1\0\31\14\13\0\1\14"+
+    "\3\0\13\14\1\0\1\14\1\57\14\14\1\60\12\14"+
+    "\13\0\1\14\3\0\13\14\1\0\16\14\1\61\12\14"+
+    "\13\0\1\14\3\0\13\14\1\0\23\14\1\62\5\14"+
+    "\13\0\1\14\3\0\13\14\1\0\26\14\1\63\2\14"+
+    "\13\0\1\14\3\0\13\14\1\0\5\14\1\64\14\14"+
+    "\1\65\6\14\13\0\1\14\3\0\13\14\1\0\21\14"+
+    "\1\66\7\14\13\0\1\14\3\0\13\14\1\0\1\14"+
+    "\1\67\3\14\1\70\10\14\1\71\12\14\13\0\1\14"+
+    "\3\0\13\14\1\0\1\14\1\72\27\14\13\0\1\14"+
+    "\3\0\13\14\1\0\1\14\1\73\27\14\13\0\1\14"+
+    "\3\0\13\14\1\0\1\14\1\74\27\14\13\0\1\14"+
+    "\3\0\13\14\1\0\11\14\1\75\10\14\1\76\6\14"+
+    "\13\0\1\14\3\0\13\14\1\0\5\14\1\77\14\14"+
+    "\1\100\6\14\13\0\1\14\3\0\13\14\1\0\21\14"+
+    "\1\101\7\14\13\0\1\14\3\0\13\14\1\0\1\14"+
+    "\1\102\27\14\2\0\2\40\3\0\23\40\1\0\33\40"+
+    "\4\103\1\104\3\103\1\105\17\103\1\106\2\103\1\107"+
+    "\3\103\1\110\6\103\1\111\2\103\1\112\1\103\1\113"+
+    "\1\114\7\103\7\0\1\46\1\0\1\44\5\0\1\50"+
+    "\16\0\1\50\25\0\2\45\1\0\61\45\11\0\1\115"+
+    "\117\0\1\116\4\0\1\116\16\0\2\117\2\0\1\120"+
+    "\124\0\1\52\22\0\1\14\3\0\5\14\1\121\5\14"+
+    "\1\0\31\14\13\0\1\14\3\0\11\14\1\122\1\14"+
+    "\1\0\31\14\13\0\1\14\3\0\10\14\1\123\2\14"+
+    "\1\0\31\14\13\0\1\14\3\0\11\14\1\124\1\14"+
+    "\1\0\31\14\13\0\1\14\3\0\13\14\1\0\21\14"+
+    "\1\125\7\14\13\0\1\14\3\0\13\14\1\0\4\14"+
+    "\1\126\24\14\13\0\1\14\3\0\13\14\1\0\15\14"+
+    "\1\127\13\14\13\0\1\14\3\0\13\14\1\0\20\14"+
+    "\1\130\10\14\13\0\1\14\3\0\13\14\1\0\5\14"+
+    "\1\131\11\14\1\132\11\14\13\0\1\14\3\0\13\14"+
+    "\1\0\1\14\1\133\27\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\134\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\16\14\1\135\12\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\136\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\137\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\1\14\1\140\27\14\13\0\1\14\3\0\13\14"+
+    "\1\0\26\14\1\141\2\14\13\0\1\14\3\0\13\14"+
+    "\1\0\20\14\1\142\10\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\143\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\30\14\1\144\13\0\1\14\3\0\13\14\1\0"+
+    "\1\14\1\145\27\14\13\0\1\14\3\0\13\14\1\0"+
+    "\21\14\1\146\7\14\13\0\1\14\3\0\13\14\1\0"+
+    "\6\14\1\147\22\14\13\0\1\14\3\0\13\14\1\0"+
+    "\5\14\1\150\23\14\13\0\1\14\3\0\13\14\1\0"+
+    "\20\14\1\151\10\14\13\0\1\152\3\0\3\152\12\0"+
+    "\6\152\35\0\1\115\5\0\1\50\16\0\1\50\36\0"+
+    "\1\120\63\0\1\14\3\0\2\14\1\153\10\14\1\0"+
+    "\31\14\13\0\1\14\3\0\11\14\1\154\1\14\1\0"+
+    "\31\14\13\0\1\14\3\0\13\14\1\0\5\14\1\155"+
+    "\23\14\13\0\1\14\3\0\13\14\1\0\27\14\1\156"+
+    "\1\14\13\0\1\14\3\0\13\14\1\0\6\14\1\157"+
+    "\6\14\1\160\4\14\1\161\6\14\13\0\1\14\3\0"+
+    "\13\14\1\0\1\14\1\162\27\14\13\0\1\14\3\0"+
+    "\13\14\1\0\3\14\1\163\25\14\13\0\1\14\3\0"+
+    "\13\14\1\0\5\14\1\164\23\14\13\0\1\14\3\0"+
+    "\13\14\1\0\4\14\1\165\24\14\13\0\1\14\3\0"+
+    "\13\14\1\0\17\14\1\166\11\14\13\0\1\14\3\0"+
+    "\13\14\1\0\15\14\1\167\13\14\13\0\1\14\3\0"+
+    "\13\14\1\0\5\14\1\170\23\14\13\0\1\14\3\0"+
+    "\13\14\1\0\4\14\1\171\24\14\13\0\1\14\3\0"+
+    "\13\14\1\0\1\172\30\14\13\0\1\14\3\0\13\14"+
+    "\1\0\1\14\1\173\27\14\13\0\1\14\3\0\13\14"+
+    "\1\0\5\14\1\174\23\14\13\0\1\14\3\0\13\14"+
+    "\1\0\5\14\1\175\23\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\176\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\177\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\2\14\1\200\26\14\13\0\1\14\3\0\13\14"+
+    "\1\0\20\14\1\201\10\14\13\0\1\14\3\0\13\14"+
+    "\1\0\14\14\1\202\14\14\13\0\1\203\3\0\3\203"+
+    "\12\0\6\203\35\0\1\14\3\0\11\14\1\204\1\14"+
+    "\1\0\31\14\13\0\1\14\3\0\13\14\1\0\1\205"+
+    "\30\14\13\0\1\14\3\0\13\14\1\0\11\14\1\206"+
+    "\17\14\13\0\1\14\3\0\13\14\1\0\5\14\1\207"+
+    "\23\14\13\0\1\14\3\0\13\14\1\0\1\14\1\210"+
+    "\27\14\13\0\1\14\3\0\13\14\1\0\22\14\1\211"+
+    "\6\14\13\0\1\14\3\0\13\14\1\0\23\14\1\212"+
+    "\5\14\13\0\1\14\3\0\13\14\1\0\3\14\1\213"+
+    "\25\14\13\0\1\14\3\0\13\14\1\0\5\14\1\214"+
+    "\23\14\13\0\1\14\3\0\13\14\1\0\1\215\30\14"+
+    "\13\0\1\14\3\0\13\14\1\0\15\14\1\216\13\14"+
+    "\13\0\1\14\3\0\13\14\1\0\3\14\1\217\25\14"+
+    "\13\0\1\14\3\0\13\14\1\0\13\14\1\220\15\14"+
+    "\13\0\1\14\3\0\13\14\1\0\23\14\1\221\5\14"+
+    "\13\0\1\14\3\0\13\14\1\0\21\14\1\222\7\14"+
+    "\13\0\1\14\3\0\13\14\1\0\23\14\1\223\5\14"+
+    "\13\0\1\224\3\0\3\224\12\0\6\224\35\0\1\14"+
+    "\3\0\2\14\1\225\10\14\1\0\31\14\13\0\1\14"+
+    "\3\0\13\14\1\0\23\14\1\226\5\14\13\0\1\14"+
+    "\3\0\13\14\1\0\7\14\1\227\21\14\13\0\1\14"+
+    "\3\0\13\14\1\0\3\14\1\230\25\14\13\0\1\14"+
+    "\3\0\13\14\1\0\11\14\1\231\17\14\13\0\1\14"+
+    "\3\0\13\14\1\0\11\14\1\232\17\14\13\0\1\14"+
+    "\3\0\13\14\1\0\22\14\1\233\6\14\13\0\1\14"+
+    "\3\0\13\14\1\0\22\14\1\234\6\14\13\0\1\14"+
+    "\3\0\13\14\1\0\20\14\1\235\10\14\13\0\1\14"+
+    "\3\0\13\14\1\0\24\14\1\236\4\14\13\0\1\14"+
+    "\3\0\13\14\1\0\3\14\1\237\25\14\13\0\1\14"+
+    "\3\0\13\14\1\0\16\14\1\240\12\14\13\0\1\14"+
+    "\3\0\13\14\1\0\13\14\1\241\15\14\13\0\1\14"+
+    "\3\0\13\14\1\0\21\14\1\242\7\14\13\0\1\14"+
+    "\3\0\13\14\1\0\17\14\1\243\11\14\13\0\1\244"+
+    "\3\0\3\244\12\0\6\244\35\0\1\14\3\0\13\14"+
+    "\1\0\20\14\1\245\10\14\13\0\1\14\3\0\13\14"+
+    "\1\0\22\14\1\246\6\14\13\0\1\14\3\0\13\14"+
+    "\1\0\15\14\1\247\13\14\13\0\1\14\3\0\13\14"+
+    "\1\0\16\14\1\250\12\14\13\0\1\14\3\0\13\14"+
+    "\1\0\16\14\1\251\12\14\13\0\1\14\3\0\13\14"+
+    "\1\0\5\14\1\252\23\14\13\0\1\14\3\0\13\14"+
+    "\1\0\27\14\1\253\1\14\13\0\1\14\3\0\13\14"+
+    "\1\0\15\14\1\254\13\14\13\0\1\14\3\0\13\14"+
+    "\1\0\5\14\1\255\23\14\13\0\1\14\3\0\13\14"+
+    "\1\0\13\14\1\256\15\14\13\0\1\14\3\0\13\14"+
+    "\1\0\1\257\30\14\13\0\1\14\3\0\13\14\1\0"+
+    "\21\14\1\260\7\14\13\0\1\14\3\0\13\14\1\0"+
+    "\15\14\1\261\13\14\13\0\1\14\3\0\13\14\1\0"+
+    "\20\14\1\262\10\14\13\0\1\14\3\0\13\14\1\0"+
+    "\20\14\1\263\10\14\13\0\1\14\3\0\13\14\1\0"+
+    "\15\14\1\264\13\14\13\0\1\14\3\0\13\14\1\0"+
+    "\13\14\1\265\15\14\13\0\1\14\3\0\13\14\1\0"+
+    "\22\14\1\266\6\14\13\0\1\14\3\0\13\14\1\0"+
+    "\21\14\1\267\7\14\13\0\1\14\3\0\13\14\1\0"+
+    "\5\14\1\270\23\14\13\0\1\14\3\0\13\14\1\0"+
+    "\11\14\1\271\17\14\13\0\1\14\3\0\13\14\1\0"+
+    "\11\14\1\272\17\14\13\0\1\14\3\0\13\14\1\0"+
+    "\11\14\1\273\17\14\13\0\1\14\3\0\13\14\1\0"+
+    "\3\14\1\274\25\14\13\0\1\14\3\0\13\14\1\0"+
+    "\21\14\1\275\7\14\13\0\1\14\3\0\13\14\1\0"+
+    "\14\14\1\276\14\14\13\0\1\14\3\0\13\14\1\0"+
+    "\16\14\1\277\12\14\13\0\1\14\3\0\13\14\1\0"+
+    "\22\14\1\300\6\14\13\0\1\14\3\0\13\14\1\0"+
+    "\14\14\1\301\14\14\13\0\1\14\3\0\13\14\1\0"+
+    "\5\14\1\302\23\14\13\0\1\14\3\0\13\14\1\0"+
+    "\15\14\1\303\13\14\13\0\1\14\3\0\13\14\1\0"+
+    "\11\14\1\304\17\14\13\0\1\14\3\0\13\14\1\0"+
+    "\16\14\1\305\12\14\13\0\1\14\3\0\13\14\1\0"+
+    "\16\14\1\306\12\14\13\0\1\14\3\0\13\14\1\0"+
+    "\23\14\1\307\5\14\13\0\1\14\3\0\13\14\1\0"+
+    "\15\14\1\310\13\14\13\0\1\14\3\0\13\14\1\0"+
+    "\22\14\1\311\6\14\13\0\1\14\3\0\13\14\1\0"+
+    "\21\14\1\312\7\14\2\0";
 
   private static int [] zzUnpacktrans() {
-    int [] result = new int[2394];
+    int [] result = new int[7956];
     int offset = 0;
     offset = zzUnpacktrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -265,11 +385,13 @@ class TestLangScanner implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\1\0\1\11\2\0\1\1\2\11\13\1\3\11\1\0"+
-    "\65\1";
+    "\2\0\3\11\3\1\3\11\22\1\2\11\1\1\2\11"+
+    "\3\1\3\0\1\1\1\11\30\1\11\11\2\1\1\11"+
+    "\1\0\32\1\1\0\30\1\1\0\20\1\1\0\17\1"+
+    "\1\11\46\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[75];
+    int [] result = new int[202];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -353,6 +475,25 @@ class TestLangScanner implements java_cup.runtime.Scanner {
     return new Symbol(type, yyline, yycolumn, value);
   }
 
+  //string literals are read piece by piece in state STRING into this one builder, so a literal
+  //costs one pass over its text and one String; the symbol gets the position of its opening quote
+  private final StringBuilder string = new StringBuilder();
+  private int stringLine;
+  private int stringColumn;
+
+  private Symbol endString(int type, Object value) {
+    yybegin(YYINITIAL);
+    return new Symbol(type, stringLine, stringColumn, value);
+  }
+
+  private char unicodeEscape() {
+    int c = 0;
+    for (int i = 2; i < 6; i++) {
+      c = c << 4 | Character.digit(yycharat(i), 16);
+    }
+    return (char) c;
+  }
+
 
   /**
    * Creates a new scanner
@@ -773,130 +914,295 @@ class TestLangScanner implements java_cup.runtime.Scanner {
       if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
         zzAtEOF = true;
             zzDoEOF();
+            switch (zzLexicalState) {
+            case STRING: {
+              return endString(sym.error, "Unterminated string");
+            }  // fall though
+            case 203: break;
+            default:
           { return new java_cup.runtime.Symbol(sym.EOF); }
+        }
       }
       else {
         switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
           case 1:
-            { /* ignore whitespace */
+            { return symbol(sym.error, yytext());
             }
           // fall through
-          case 23: break;
+          case 56: break;
           case 2:
-            { return symbol(sym.NUMBER, yytext());
+            { /* ignore whitespace */
             }
           // fall through
-          case 24: break;
+          case 57: break;
           case 3:
-            { return symbol(sym.SEMICOLON);
+            { string.setLength(0);
+                stringLine = yyline;
+                stringColumn = yycolumn;
+                yybegin(STRING);
             }
           // fall through
-          case 25: break;
+          case 58: break;
           case 4:
-            { return symbol(sym.EQUALS);
+            { return symbol(sym.NUMBER, yytext());
             }
           // fall through
-          case 26: break;
+          case 59: break;
           case 5:
-            { return symbol(sym.IDENTIFIER, yytext());
+            { return symbol(sym.SEMICOLON);
             }
           // fall through
-          case 27: break;
+          case 60: break;
           case 6:
-            { return symbol(sym.LBRACE);
+            { return symbol(sym.LESS);
             }
           // fall through
-          case 28: break;
+          case 61: break;
           case 7:
-            { return symbol(sym.RBRACE);
+            { return symbol(sym.EQUALS);
             }
           // fall through
-          case 29: break;
+          case 62: break;
           case 8:
-            { // Remove quotes AND unescape
-                String val = yytext().substring(1, yytext().length()-1);
-                
-                // Unescape common sequences
-                val = val.replace("\\\"", "\"")
-                        .replace("\\\\", "\\")
-                        .replace("\\n", "\n")
-                        .replace("\\r", "\r")
-                        .replace("\\t", "\t");
-                
-                return symbol(sym.STRING, val);
-            }
-          // fall through
-          case 30: break;
+            { return symbol(sym.IDENTIFIER, yytext());
+            }
+          // fall through
+          case 63: break;
           case 9:
-            { /* ignore comments */
+            { return symbol(sym.LBRACE);
             }
           // fall through
-          case 31: break;
+          case 64: break;
           case 10:
-            { return symbol(sym.GET);
+            { return symbol(sym.RBRACE);
             }
           // fall through
-          case 32: break;
+          case 65: break;
           case 11:
-            { return symbol(sym.PUT);
+            { string.append(zzBuffer, zzStartRead, yylength());
             }
           // fall through
-          case 33: break;
+          case 66: break;
           case 12:
-            { return symbol(sym.LET);
+            { return endString(sym.error, "Unterminated string");
             }
           // fall through
-          case 34: break;
+          case 67: break;
           case 13:
-            { return symbol(sym.POST);
+            { return endString(sym.STRING, string.toString());
             }
           // fall through
-          case 35: break;
+          case 68: break;
           case 14:
-            { return symbol(sym.BODY);
+            { return endString(sym.error, "Illegal escape sequence '" + yytext() + "' in string");
             }
           // fall through
-          case 36: break;
+          case 69: break;
           case 15:
-            { return symbol(sym.TEST);
+            { return symbol(sym.DECIMAL, yytext());
             }
           // fall through
-          case 37: break;
+          case 70: break;
           case 16:
-            { return symbol(sym.DELETE);
+            { /* ignore comments */
             }
           // fall through
-          case 38: break;
+          case 71: break;
           case 17:
-            { return symbol(sym.CONFIG);
+            { return symbol(sym.TIME, yytext());
             }
           // fall through
-          case 39: break;
+          case 72: break;
           case 18:
-            { return symbol(sym.EXPECT);
+            { string.append('"');
             }
           // fall through
-          case 40: break;
+          case 73: break;
           case 19:
-            { return symbol(sym.HEADER);
+            { string.append('/');
             }
           // fall through
-          case 41: break;
+          case 74: break;
           case 20:
-            { return symbol(sym.STATUS);
+            { string.append('\\');
             }
           // fall through
-          case 42: break;
+          case 75: break;
           case 21:
-            { return symbol(sym.BASE_URL);
+            { string.append('\b');
             }
           // fall through
-          case 43: break;
+          case 76: break;
           case 22:
+            { string.append('\f');
+            }
+          // fall through
+          case 77: break;
+          case 23:
+            { string.append('\n');
+            }
+          // fall through
+          case 78: break;
+          case 24:
+            { string.append('\r');
+            }
+          // fall through
+          case 79: break;
+          case 25:
+            { string.append('\t');
+            }
+          // fall through
+          case 80: break;
+          case 26:
+            { return symbol(sym.FREQUENCY, yytext());
+            }
+          // fall through
+          case 81: break;
+          case 27:
+            { return symbol(sym.GET);
+            }
+          // fall through
+          case 82: break;
+          case 28:
+            { return symbol(sym.PUT);
+            }
+          // fall through
+          case 83: break;
+          case 29:
+            { return symbol(sym.LET);
+            }
+          // fall through
+          case 84: break;
+          case 30:
+            { return symbol(sym.POST);
+            }
+          // fall through
+          case 85: break;
+          case 31:
+            { return symbol(sym.BODY);
+            }
+          // fall through
+          case 86: break;
+          case 32:
+            { return symbol(sym.JSON);
+            }
+          // fall through
+          case 87: break;
+          case 33:
+            { return symbol(sym.LOAD);
+            }
+          // fall through
+          case 88: break;
+          case 34:
+            { return symbol(sym.RATE);
+            }
+          // fall through
+          case 89: break;
+          case 35:
+            { return symbol(sym.SIZE);
+            }
+          // fall through
+          case 90: break;
+          case 36:
+            { return symbol(sym.TEST);
+            }
+          // fall through
+          case 91: break;
+          case 37:
+            { return symbol(sym.TTFB);
+            }
+          // fall through
+          case 92: break;
+          case 38:
+            { return symbol(sym.USERS);
+            }
+          // fall through
+          case 93: break;
+          case 39:
+            { return symbol(sym.DELETE);
+            }
+          // fall through
+          case 94: break;
+          case 40:
+            { return symbol(sym.CONFIG);
+            }
+          // fall through
+          case 95: break;
+          case 41:
+            { return symbol(sym.EXPECT);
+            }
+          // fall through
+          case 96: break;
+          case 42:
+            { return symbol(sym.HEADER);
+            }
+          // fall through
+          case 97: break;
+          case 43:
+            { return symbol(sym.STATUS);
+            }
+          // fall through
+          case 98: break;
+          case 44:
+            { return symbol(sym.WARMUP);
+            }
+          // fall through
+          case 99: break;
+          case 45:
+            { string.append(unicodeEscape());
+            }
+          // fall through
+          case 100: break;
+          case 46:
+            { return symbol(sym.LATENCY);
+            }
+          // fall through
+          case 101: break;
+          case 47:
+            { return symbol(sym.BASE_URL);
+            }
+          // fall through
+          case 102: break;
+          case 48:
             { return symbol(sym.CONTAINS);
             }
           // fall through
-          case 44: break;
+          case 103: break;
+          case 49:
+            { return symbol(sym.DURATION);
+            }
+          // fall through
+          case 104: break;
+          case 50:
+            { return symbol(sym.EXECUTOR);
+            }
+          // fall through
+          case 105: break;
+          case 51:
+            { return symbol(sym.PARALLEL);
+            }
+          // fall through
+          case 106: break;
+          case 52:
+            { return symbol(sym.PARALLELISM);
+            }
+          // fall through
+          case 107: break;
+          case 53:
+            { return symbol(sym.HTTP_VERSION);
+            }
+          // fall through
+          case 108: break;
+          case 54:
+            { return symbol(sym.CONNECT_TIMEOUT);
+            }
+          // fall through
+          case 109: break;
+          case 55:
+            { return symbol(sym.MAX_CONNECTIONS);
+            }
+          // fall through
+          case 110: break;
           default:
             zzScanError(ZZ_NO_MATCH);
         }
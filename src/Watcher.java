@@ -0,0 +1,174 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import ast.*;
+import runner.*;
+
+//Watch mode: runs every test under a directory once, then waits for .test files to change. A
+//changed file alone is parsed again, its tests are compared by name and Fingerprint with the last
+//version, and only added or changed tests run, in this JVM through the Interpreter. Load blocks
+//are left out, they are too slow to run on every save.
+public class Watcher {
+    //editors save in several steps (truncate, write, rename); wait for them to settle
+    private static final long QUIET_MILLIS = 100;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final Path root;
+    private final TestLangCompiler compiler = new TestLangCompiler();
+    private final Map<Path, Map<String, String>> fingerprints = new HashMap<>();   // file -> test -> hash
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private WatchService watchService;
+
+    public Watcher(Path root) {
+        this.root = root;
+    }
+
+    public void watch() throws IOException, InterruptedException {
+        watchService = root.getFileSystem().newWatchService();
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                register(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (isTestFile(file)) files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(files);
+        for (Path file : files) {
+            update(file);
+        }
+        System.out.println("👀 Watching " + root + " for changes to .test files (Ctrl+C to stop)");
+
+        while (true) {
+            Set<Path> changed = new TreeSet<>();
+            WatchKey key = watchService.take();
+            //collect until the file system has been quiet for a moment
+            while (key != null) {
+                collect(key, changed);
+                key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            for (Path file : changed) {
+                update(file);
+            }
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, dir);
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) throws IOException {
+        Path dir = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                //events were lost: look at every file we know of
+                changed.addAll(fingerprints.keySet());
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                //WatchService is not recursive; pick up the new directory and what is already in it
+                Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) throws IOException {
+                        register(d);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (isTestFile(file)) changed.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } else if (isTestFile(path)) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    //Parses one file again and runs what changed in it since the last time
+    private void update(Path file) {
+        String stamp = "[" + LocalTime.now().format(TIME) + "] " + root.relativize(file);
+        if (!Files.isRegularFile(file)) {
+            if (fingerprints.remove(file) != null) {
+                System.out.println(stamp + ": removed");
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        CompilationResult parsed;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            parsed = compiler.parse(reader, root.relativize(file).toString());
+        } catch (IOException e) {
+            System.err.println(stamp + ": ❌ " + e.getMessage());
+            return;
+        }
+        if (!parsed.isSuccessful()) {
+            //keep the last good version, so fixing the error only runs what really changed
+            System.err.println(stamp + ": ❌ " + parsed.getDiagnostics().size() + " error(s)");
+            for (Diagnostic d : parsed.getDiagnostics()) {
+                System.err.println("   " + d);
+            }
+            return;
+        }
+
+        Program program = parsed.getProgram();
+        Map<String, String> previous = fingerprints.getOrDefault(file, Collections.emptyMap());
+        Map<String, String> current = new LinkedHashMap<>();
+        List<Test> toRun = new ArrayList<>();
+        int added = 0;
+        int changed = 0;
+        for (Test t : program.getTests()) {
+            String hash = Fingerprint.of(program, t);
+            current.put(t.getName(), hash);
+            String before = previous.get(t.getName());
+            if (before == null) {
+                added++;
+                toRun.add(t);
+            } else if (!before.equals(hash)) {
+                changed++;
+                toRun.add(t);
+            }
+        }
+        int removed = 0;
+        for (String name : previous.keySet()) {
+            if (!current.containsKey(name)) removed++;
+        }
+        fingerprints.put(file, current);
+
+        double parseMillis = (System.nanoTime() - start) / 1e6;
+        System.out.println(String.format("%s: %d added, %d changed, %d removed, %d unchanged (parsed in %.1f ms)",
+            stamp, added, changed, removed, current.size() - added - changed, parseMillis));
+        if (!toRun.isEmpty()) {
+            try {
+                SuiteResult result = new Interpreter(program).run(file.getFileName().toString(), toRun);
+                result.printReport(System.out);
+            } catch (RuntimeException e) {
+                //e.g. a request URL that does not parse; report it and keep watching
+                System.err.println(stamp + ": ❌ " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isTestFile(Path path) {
+        return path.getFileName().toString().endsWith(".test");
+    }
+}
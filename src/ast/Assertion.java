@@ -6,13 +6,22 @@ public class Assertion implements Statement {
         STATUS,              //expect status=200
         HEADER_EQUALS,       //expect header "Content-Type" = "application/json"
         HEADER_CONTAINS,     //expect header "Content-Type" contains "application/json"
-        BODY_CONTAINS        //expect body contains "text"
+        BODY_CONTAINS,       //expect body contains "text"
+        LATENCY_BELOW,       //expect latency < 250ms
+        TTFB_BELOW,          //expect ttfb < 100ms
+        JSON_EQUALS,         //expect json "$.user.id" = 42
+        JSON_SIZE            //expect json "$.items" size = 10
     }
     
     private Type type;
     private Integer statusCode;      //for STATUS
     private String headerName;       //for HEADER_*
     private String expectedValue;    //for equals/contains
+    private long limitMillis;        //for LATENCY_BELOW/TTFB_BELOW
+    private String jsonPath;         //for JSON_*
+    private boolean expectString;    //for JSON_EQUALS: a JSON string, else a number, true, false or null
+    private int expectedSize;        //for JSON_SIZE
+    private String target;           //response name from a parallel block, null for the last request
     
     //Constructor for STATUS assertion
     public static Assertion status(int code) {
@@ -48,6 +57,41 @@ public class Assertion implements Statement {
         return a;
     }
     
+    //Constructor for LATENCY_BELOW - full request/response time
+    public static Assertion latencyBelow(long millis) {
+        Assertion a = new Assertion();
+        a.type = Type.LATENCY_BELOW;
+        a.limitMillis = millis;
+        return a;
+    }
+    
+    //Constructor for TTFB_BELOW - time until the response headers arrived
+    public static Assertion ttfbBelow(long millis) {
+        Assertion a = new Assertion();
+        a.type = Type.TTFB_BELOW;
+        a.limitMillis = millis;
+        return a;
+    }
+    
+    //Constructor for JSON_EQUALS - value is the text of a string (string = true) or the literal
+    public static Assertion jsonEquals(String path, String value, boolean string) {
+        Assertion a = new Assertion();
+        a.type = Type.JSON_EQUALS;
+        a.jsonPath = path;
+        a.expectedValue = value;
+        a.expectString = string;
+        return a;
+    }
+    
+    //Constructor for JSON_SIZE - members of an object or elements of an array
+    public static Assertion jsonSize(String path, int size) {
+        Assertion a = new Assertion();
+        a.type = Type.JSON_SIZE;
+        a.jsonPath = path;
+        a.expectedSize = size;
+        return a;
+    }
+    
     //Private constructor - use only the factory methods in here
     private Assertion() {}
     
@@ -56,4 +100,22 @@ public class Assertion implements Statement {
     public Integer getStatusCode() { return statusCode; }
     public String getHeaderName() { return headerName; }
     public String getExpectedValue() { return expectedValue; }
+    public long getLimitMillis() { return limitMillis; }
+    public String getJsonPath() { return jsonPath; }
+    public boolean isExpectString() { return expectString; }
+    public int getExpectedSize() { return expectedSize; }
+    public String getTarget() { return target; }
+    
+    //expect user status = 200; checks the response named user instead of the last one
+    public void setTarget(String target) {
+        this.target = target;
+    }
+    
+    public boolean isTiming() {
+        return type == Type.LATENCY_BELOW || type == Type.TTFB_BELOW;
+    }
+    
+    public boolean isJson() {
+        return type == Type.JSON_EQUALS || type == Type.JSON_SIZE;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+// No package declaration needed
+package ast;
+
+// let token = json "$.token"; inside a test: takes a value out of the last response's
+// JSON body and keeps it in $token for the requests after it. let id = user json "$.id";
+// takes it from the response named user in a parallel block instead.
+public class Capture implements Statement {
+    private String name;
+    private String path;
+    private String target;   // response name, null for the last request
+
+    public Capture(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public String getName() { return name; }
+    public String getPath() { return path; }
+    public String getTarget() { return target; }
+
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    @Override
+    public String toString() {
+        return "Capture(" + name + " = " + (target != null ? target + " " : "") + "json " + path + ")";
+    }
+}
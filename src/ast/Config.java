@@ -6,6 +6,11 @@ import java.util.*;
 public class Config {
     private String baseUrl;
     private Map<String, String> defaultHeaders;
+    private int parallelism = 1;     // 1 = tests run one after another
+    private boolean http2 = false;   // http_version = "h2"
+    private int maxConnections = 0;  // 0 = no limit
+    private long connectTimeoutMillis = 5_000;
+    private boolean virtualThreads = false;  // executor = "virtual"
     
     public Config() {
         this.defaultHeaders = new HashMap<>();
@@ -15,10 +20,41 @@ public class Config {
         this.baseUrl = baseUrl;
     }
     
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+    
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+    
+    public void setConnectTimeoutMillis(long connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+    
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+    
     public void addHeader(String key, String value) {
         this.defaultHeaders.put(key, value);
     }
     
     public String getBaseUrl() { return baseUrl; }
     public Map<String, String> getDefaultHeaders() { return defaultHeaders; }
+    public int getParallelism() { return parallelism; }
+    public boolean isParallel() { return parallelism > 1; }
+    public boolean isHttp2() { return http2; }
+    public int getMaxConnections() { return maxConnections; }
+    public long getConnectTimeoutMillis() { return connectTimeoutMillis; }
+    public boolean isVirtualThreads() { return virtualThreads; }
+    
+    //true when every client setting is left at its default
+    public boolean hasDefaultClient() {
+        return !http2 && maxConnections == 0 && connectTimeoutMillis == 5_000 && !virtualThreads;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+// No package declaration needed
+package ast;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+// Content hash of a test together with everything in its file that changes what it does
+// (base url, config headers, variables). Two tests with the same fingerprint send the same
+// requests and check the same things; layout and comments in the source do not count.
+// Every statement kind has to be written out here, or edits to it go unnoticed.
+public final class Fingerprint {
+    private final StringBuilder text = new StringBuilder();
+
+    private Fingerprint() {}
+
+    public static String of(Program program, Test test) {
+        Fingerprint f = new Fingerprint();
+        Config config = program.getConfig();
+        if (config != null) {
+            f.add("base_url", config.getBaseUrl());
+            f.add("headers", new TreeMap<>(config.getDefaultHeaders()));
+            f.add("client", config.isHttp2(), config.getMaxConnections(), config.getConnectTimeoutMillis(),
+                config.isVirtualThreads());
+        }
+        for (Variable v : program.getVariables()) {
+            f.add("let", v.getName(), v.getValue());
+        }
+        f.add("test", test.getName());
+        for (Statement s : test.getStatements()) {
+            f.statement(s);
+        }
+        return f.digest();
+    }
+
+    private void statement(Statement s) {
+        if (s instanceof Request) {
+            Request r = (Request) s;
+            add("request", r.getMethod(), r.getPath(), r.getBody(), new TreeMap<>(r.getHeaders()), r.getName());
+        } else if (s instanceof Parallel) {
+            List<Request> requests = ((Parallel) s).getRequests();
+            add("parallel", requests.size());
+            for (Request r : requests) {
+                statement(r);
+            }
+        } else if (s instanceof Assertion) {
+            Assertion a = (Assertion) s;
+            add("expect", a.getType(), a.getStatusCode(), a.getHeaderName(), a.getExpectedValue(),
+                a.getLimitMillis(), a.getJsonPath(), a.isExpectString(), a.getExpectedSize(), a.getTarget());
+        } else if (s instanceof Capture) {
+            Capture c = (Capture) s;
+            add("capture", c.getName(), c.getPath(), c.getTarget());
+        } else {
+            throw new IllegalArgumentException("No fingerprint for " + s.getClass().getSimpleName());
+        }
+    }
+
+    //length-prefixed, so no value can run into the next one
+    private void add(Object... values) {
+        for (Object v : values) {
+            String s = String.valueOf(v);
+            text.append(s.length()).append(':').append(s).append(v == null ? '!' : ';');
+        }
+        text.append('\n');
+    }
+
+    private String digest() {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);   // every JRE ships SHA-256
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// No package declaration needed
+package ast;
+
+public class Load {
+    private String testName;
+    private Test test;               // the test body each virtual user repeats
+    private int users = 1;
+    private long durationMillis = 10_000;
+    private long warmupMillis = 0;
+    private double ratePerSecond = 0;  // > 0 = open model, start iterations at this rate
+    
+    public Load(String testName, Test test) {
+        this.testName = testName;
+        this.test = test;
+    }
+    
+    public void setUsers(int users) {
+        this.users = users;
+    }
+    
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+    
+    public void setWarmupMillis(long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+    }
+    
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+    
+    public String getTestName() { return testName; }
+    public Test getTest() { return test; }
+    public int getUsers() { return users; }
+    public long getDurationMillis() { return durationMillis; }
+    public long getWarmupMillis() { return warmupMillis; }
+    public double getRatePerSecond() { return ratePerSecond; }
+    public boolean isArrivalRate() { return ratePerSecond > 0; }
+
+    @Override
+    public String toString() {
+        return "Load(" + testName + 
+               (isArrivalRate() ? ", rate=" + ratePerSecond + "/s" : ", users=" + users) + 
+               ", duration=" + durationMillis + "ms, warmup=" + warmupMillis + "ms)";
+    }
+}
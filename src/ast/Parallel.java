@@ -0,0 +1,22 @@
+// No package declaration needed
+package ast;
+
+import java.util.*;
+
+// parallel { user = GET "/api/users/42"; GET "/api/stats"; } inside a test: the requests are sent
+// together and the test goes on once all responses are in. Named responses can be checked after
+// the block with expect user ... and let x = user json "...".
+public class Parallel implements Statement {
+    private List<Request> requests;
+
+    public Parallel(List<Request> requests) {
+        this.requests = requests;
+    }
+
+    public List<Request> getRequests() { return requests; }
+
+    @Override
+    public String toString() {
+        return "Parallel(" + requests + ")";
+    }
+}
@@ -7,17 +7,24 @@ public class Program {
     private Config config;
     private List<Variable> variables;
     private List<Test> tests;
+    private List<Load> loads;
+    private Map<String, String> variableValues = new HashMap<>();   // symbol table: name -> value
 
     public Program() {
         this.config = null;
         this.variables = new ArrayList<>();
         this.tests = new ArrayList<>();
+        this.loads = new ArrayList<>();
     }
     
     public Program(Config config, List<Variable> variables, List<Test> tests) {
         this.config = config;
         this.variables = variables != null ? variables : new ArrayList<>();
         this.tests = tests != null ? tests : new ArrayList<>();
+        this.loads = new ArrayList<>();
+        for (Variable v : this.variables) {
+            variableValues.put(v.getName(), v.getValue());
+        }
     }
 
     public void setConfig(Config config) {
@@ -26,22 +33,34 @@ public class Program {
     
     public void addVariable(Variable var) {
         this.variables.add(var);
+        this.variableValues.put(var.getName(), var.getValue());
     }
     
     public void addTest(Test test) {
         this.tests.add(test);
     }
+    
+    public void addLoad(Load load) {
+        this.loads.add(load);
+    }
 
     //getters
     public Config getConfig() { return config; }
     public List<Variable> getVariables() { return variables; }
     public List<Test> getTests() { return tests; }
+    public List<Load> getLoads() { return loads; }
+    public Map<String, String> getVariableValues() { return Collections.unmodifiableMap(variableValues); }
     
-    //Helper: Find variable value by name
+    //Helper: Find variable value by name (a later let of the same name wins)
     public String getVariableValue(String name) {
-        for (Variable v : variables) {
-            if (v.getName().equals(name)) {
-                return v.getValue();
+        return variableValues.get(name);
+    }
+    
+    //Helper: Find test by name
+    public Test getTest(String name) {
+        for (Test t : tests) {
+            if (t.getName().equals(name)) {
+                return t;
             }
         }
         return null;
@@ -51,6 +70,7 @@ public class Program {
     public String toString() {
         return "Program(config=" + (config != null ? "present" : "null") + 
                ", vars=" + variables.size() + 
-               ", tests=" + tests.size() + ")";
+               ", tests=" + tests.size() + 
+               ", loads=" + loads.size() + ")";
     }
 }
\ No newline at end of file
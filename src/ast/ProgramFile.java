@@ -0,0 +1,410 @@
+// No package declaration needed
+package ast;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+// Binary form of a parsed Program (.tlc), so a suite that has not changed can be loaded without
+// the scanner and parser. Every string is stored once in a table and referenced by index, and all
+// counts, lengths and indexes are varints. Tests are stored with their length in front: reading
+// a file only walks the string and test tables, and a test is decoded the first time it is used.
+//
+//   magic "TLC\0", format, strings, config, variables, tests, loads
+//
+// Every statement kind has to be written out here, like in Fingerprint.
+public final class ProgramFile {
+    public static final String EXTENSION = ".tlc";
+
+    private static final int MAGIC = 0x544c4300;   // "TLC\0"
+    private static final int FORMAT = 1;
+
+    private static final byte REQUEST = 'R';
+    private static final byte ASSERTION = 'A';
+    private static final byte CAPTURE = 'C';
+    private static final byte PARALLEL = 'P';
+
+    private ProgramFile() {}
+
+    public static void write(Program program, Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".partial");
+        Files.write(tmp, encode(program));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static byte[] encode(Program program) {
+        Encoder e = new Encoder();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        Config config = program.getConfig();
+        body.write(config != null ? 1 : 0);
+        if (config != null) {
+            e.string(body, config.getBaseUrl());
+            e.varint(body, config.getParallelism());
+            e.map(body, config.getDefaultHeaders());
+            body.write(config.isHttp2() ? 1 : 0);
+            e.varint(body, config.getMaxConnections());
+            e.varint(body, config.getConnectTimeoutMillis());
+            body.write(config.isVirtualThreads() ? 1 : 0);
+        }
+
+        e.varint(body, program.getVariables().size());
+        for (Variable v : program.getVariables()) {
+            e.string(body, v.getName());
+            e.string(body, v.getValue());
+        }
+
+        List<Test> tests = program.getTests();
+        e.varint(body, tests.size());
+        for (Test t : tests) {
+            ByteArrayOutputStream test = new ByteArrayOutputStream();
+            e.string(test, t.getName());
+            e.varint(test, t.getStatements().size());
+            for (Statement s : t.getStatements()) {
+                e.statement(test, s);
+            }
+            e.varint(body, test.size());
+            body.write(test.toByteArray(), 0, test.size());
+        }
+
+        e.varint(body, program.getLoads().size());
+        for (Load l : program.getLoads()) {
+            e.string(body, l.getTestName());
+            e.varint(body, l.getTest() != null ? indexOf(tests, l.getTest()) + 1 : 0);
+            e.varint(body, l.getUsers());
+            e.varint(body, l.getDurationMillis());
+            e.varint(body, l.getWarmupMillis());
+            e.varint(body, Double.doubleToLongBits(l.getRatePerSecond()));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() + 64);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(MAGIC >>> shift);
+        }
+        e.varint(out, FORMAT);
+        e.varint(out, e.ids.size());
+        for (String s : e.ids.keySet()) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            e.varint(out, utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+        out.write(body.toByteArray(), 0, body.size());
+        return out.toByteArray();
+    }
+
+    //Maps the file into memory; the tests are decoded from the mapping as they are used
+    public static Program read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static Program read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.limit() < 4 || buffer.getInt(0) != MAGIC) {
+                throw new IOException("not a " + EXTENSION + " file");
+            }
+            Decoder d = new Decoder(buffer, null, 4);
+            int format = d.varint();
+            if (format != FORMAT) {
+                throw new IOException(EXTENSION + " format " + format + " is not supported, compile the .test file again");
+            }
+            Strings strings = new Strings(buffer, d);
+            d.strings = strings;
+
+            Config config = null;
+            if (d.readByte() != 0) {
+                config = new Config();
+                config.setBaseUrl(d.string());
+                config.setParallelism(d.varint());
+                for (int n = d.varint(); n > 0; n--) {
+                    config.addHeader(d.string(), d.string());
+                }
+                config.setHttp2(d.readByte() != 0);
+                config.setMaxConnections(d.varint());
+                config.setConnectTimeoutMillis(d.varlong());
+                config.setVirtualThreads(d.readByte() != 0);
+            }
+
+            List<Variable> variables = new ArrayList<>();
+            for (int n = d.varint(); n > 0; n--) {
+                variables.add(new Variable(d.string(), d.string()));
+            }
+
+            int[] offsets = new int[d.varint()];
+            for (int i = 0; i < offsets.length; i++) {
+                int length = d.varint();
+                offsets[i] = d.pos;
+                d.skip(length);
+            }
+            LazyTests tests = new LazyTests(buffer, strings, offsets);
+
+            Program program = new Program(config, variables, tests);
+            for (int n = d.varint(); n > 0; n--) {
+                String name = d.string();
+                int test = d.varint();
+                Load load = new Load(name, test > 0 ? tests.get(test - 1) : null);
+                load.setUsers(d.varint());
+                load.setDurationMillis(d.varlong());
+                load.setWarmupMillis(d.varlong());
+                load.setRatePerSecond(Double.longBitsToDouble(d.varlong()));
+                program.addLoad(load);
+            }
+            return program;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("damaged " + EXTENSION + " file", e);
+        }
+    }
+
+    private static int indexOf(List<Test> tests, Test test) {
+        for (int i = 0; i < tests.size(); i++) {
+            if (tests.get(i) == test) return i;
+        }
+        throw new IllegalArgumentException("load of a test that is not in the program: " + test.getName());
+    }
+
+    private static final class Encoder {
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+
+        void statement(ByteArrayOutputStream out, Statement s) {
+            if (s instanceof Request) {
+                Request r = (Request) s;
+                out.write(REQUEST);
+                string(out, r.getMethod().name());
+                string(out, r.getPath());
+                string(out, r.getBody());
+                map(out, r.getHeaders());
+                string(out, r.getName());
+            } else if (s instanceof Parallel) {
+                List<Request> requests = ((Parallel) s).getRequests();
+                out.write(PARALLEL);
+                varint(out, requests.size());
+                for (Request r : requests) {
+                    statement(out, r);
+                }
+            } else if (s instanceof Assertion) {
+                Assertion a = (Assertion) s;
+                out.write(ASSERTION);
+                string(out, a.getType().name());
+                varint(out, a.getStatusCode() != null ? a.getStatusCode() + 1L : 0);
+                string(out, a.getHeaderName());
+                string(out, a.getExpectedValue());
+                varint(out, a.getLimitMillis());
+                string(out, a.getJsonPath());
+                out.write(a.isExpectString() ? 1 : 0);
+                varint(out, a.getExpectedSize());
+                string(out, a.getTarget());
+            } else if (s instanceof Capture) {
+                Capture c = (Capture) s;
+                out.write(CAPTURE);
+                string(out, c.getName());
+                string(out, c.getPath());
+                string(out, c.getTarget());
+            } else {
+                throw new IllegalArgumentException("No " + EXTENSION + " encoding for " + s.getClass().getSimpleName());
+            }
+        }
+
+        void map(ByteArrayOutputStream out, Map<String, String> map) {
+            varint(out, map.size());
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                string(out, entry.getKey());
+                string(out, entry.getValue());
+            }
+        }
+
+        //0 is null, otherwise the index in the string table plus one
+        void string(ByteArrayOutputStream out, String s) {
+            if (s == null) {
+                out.write(0);
+                return;
+            }
+            Integer id = ids.get(s);
+            if (id == null) {
+                id = ids.size();
+                ids.put(s, id);
+            }
+            varint(out, id + 1L);
+        }
+
+        //unsigned LEB128: 7 bits per byte, high bit set on all but the last
+        void varint(ByteArrayOutputStream out, long value) {
+            while ((value & ~0x7fL) != 0) {
+                out.write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    //Reads with absolute positions, so decoders for different tests can share one buffer
+    private static final class Decoder {
+        final ByteBuffer buffer;
+        Strings strings;
+        int pos;
+
+        Decoder(ByteBuffer buffer, Strings strings, int pos) {
+            this.buffer = buffer;
+            this.strings = strings;
+            this.pos = pos;
+        }
+
+        byte readByte() {
+            return buffer.get(pos++);
+        }
+
+        void skip(int length) {
+            if (length < 0 || pos + length > buffer.limit()) {
+                throw new IndexOutOfBoundsException("length " + length + " at " + pos);
+            }
+            pos += length;
+        }
+
+        int varint() {
+            long value = varlong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("varint out of range at " + pos);
+            }
+            return (int) value;
+        }
+
+        long varlong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get(pos++);
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IllegalArgumentException("varint too long at " + pos);
+        }
+
+        String string() {
+            int id = varint();
+            return id == 0 ? null : strings.get(id - 1);
+        }
+
+        Statement statement() {
+            byte tag = readByte();
+            if (tag == REQUEST) {
+                Request r = new Request(HttpMethod.valueOf(string()), string());
+                r.setBody(string());
+                for (int n = varint(); n > 0; n--) {
+                    r.addHeader(string(), string());
+                }
+                r.setName(string());
+                return r;
+            }
+            if (tag == PARALLEL) {
+                List<Request> requests = new ArrayList<>();
+                for (int n = varint(); n > 0; n--) {
+                    requests.add((Request) statement());
+                }
+                return new Parallel(requests);
+            }
+            if (tag == ASSERTION) {
+                Assertion.Type type = Assertion.Type.valueOf(string());
+                int status = varint();
+                String header = string();
+                String expected = string();
+                long limit = varlong();
+                String path = string();
+                boolean string = readByte() != 0;
+                int size = varint();
+                Assertion a = null;
+                switch (type) {
+                    case STATUS: a = Assertion.status(status - 1); break;
+                    case HEADER_EQUALS: a = Assertion.headerEquals(header, expected); break;
+                    case HEADER_CONTAINS: a = Assertion.headerContains(header, expected); break;
+                    case BODY_CONTAINS: a = Assertion.bodyContains(expected); break;
+                    case LATENCY_BELOW: a = Assertion.latencyBelow(limit); break;
+                    case TTFB_BELOW: a = Assertion.ttfbBelow(limit); break;
+                    case JSON_EQUALS: a = Assertion.jsonEquals(path, expected, string); break;
+                    case JSON_SIZE: a = Assertion.jsonSize(path, size); break;
+                }
+                a.setTarget(string());
+                return a;
+            }
+            if (tag == CAPTURE) {
+                Capture c = new Capture(string(), string());
+                c.setTarget(string());
+                return c;
+            }
+            throw new IllegalArgumentException("unknown statement tag " + tag + " at " + (pos - 1));
+        }
+    }
+
+    //The string table: offsets are found when the file is opened, the strings made on first use
+    private static final class Strings {
+        private final ByteBuffer buffer;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final String[] decoded;
+
+        Strings(ByteBuffer buffer, Decoder d) {
+            this.buffer = buffer;
+            int count = d.varint();
+            offsets = new int[count];
+            lengths = new int[count];
+            decoded = new String[count];
+            for (int i = 0; i < count; i++) {
+                lengths[i] = d.varint();
+                offsets[i] = d.pos;
+                d.skip(lengths[i]);
+            }
+        }
+
+        //a race only decodes the same immutable String twice
+        String get(int id) {
+            String s = decoded[id];
+            if (s == null) {
+                byte[] utf8 = new byte[lengths[id]];
+                ByteBuffer view = buffer.duplicate();
+                view.position(offsets[id]);
+                view.get(utf8);
+                s = decoded[id] = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return s;
+        }
+    }
+
+    private static final class LazyTests extends AbstractList<Test> implements RandomAccess {
+        private final ByteBuffer buffer;
+        private final Strings strings;
+        private final int[] offsets;
+        private final Test[] decoded;
+
+        LazyTests(ByteBuffer buffer, Strings strings, int[] offsets) {
+            this.buffer = buffer;
+            this.strings = strings;
+            this.offsets = offsets;
+            this.decoded = new Test[offsets.length];
+        }
+
+        @Override
+        public synchronized Test get(int index) {
+            Test t = decoded[index];
+            if (t == null) {
+                Decoder d = new Decoder(buffer, strings, offsets[index]);
+                try {
+                    String name = d.string();
+                    List<Statement> statements = new ArrayList<>();
+                    for (int n = d.varint(); n > 0; n--) {
+                        statements.add(d.statement());
+                    }
+                    t = decoded[index] = new Test(name, statements);
+                } catch (IndexOutOfBoundsException e) {
+                    throw new IllegalArgumentException("damaged " + EXTENSION + " file", e);
+                }
+            }
+            return t;
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+// No package declaration needed
+package ast;
+
+// Receives tests and load blocks as soon as the parser completes them,
+// so a caller can process a file without keeping every test in memory
+public interface ProgramListener {
+    void testParsed(Test test) throws Exception;
+    void loadParsed(Load load) throws Exception;
+}
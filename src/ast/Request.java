@@ -8,11 +8,12 @@ public class Request implements Statement {
     private String path;
     private Map<String, String> headers;
     private String body;
+    private String name;   // name = GET "..."; inside parallel { }, else null
     
     public Request(HttpMethod method, String path) {
         this.method = method;
         this.path = path;
-        this.headers = new HashMap<>();
+        this.headers = new LinkedHashMap<>();   // sent in the order written
         this.body = null;
     }
     
@@ -20,6 +21,7 @@ public class Request implements Statement {
     public String getPath() { return path; }
     public Map<String, String> getHeaders() { return headers; }
     public String getBody() { return body; }
+    public String getName() { return name; }
     
     public void addHeader(String key, String value) {
         this.headers.put(key, value);
@@ -28,10 +30,14 @@ public class Request implements Statement {
     public void setBody(String body) {
         this.body = body;
     }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
 
     @Override
     public String toString() {
-        return "Request(" + method + " " + path + 
+        return "Request(" + (name != null ? name + " = " : "") + method + " " + path + 
                (body != null ? " with body" : "") + ")";
     }
 }
\ No newline at end of file
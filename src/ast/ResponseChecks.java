@@ -0,0 +1,42 @@
+// No package declaration needed
+package ast;
+
+import java.util.*;
+
+// The statements after a request that read its response body, found by looking ahead from the
+// request at index in a test: up to the next request for an unnamed one, every later one that
+// names it for a response of a parallel block. CodeGenerator and the interpreter both build a
+// request's BodyMatcher from these, in this order, so pattern and path indexes agree.
+public final class ResponseChecks {
+    private ResponseChecks() {}
+
+    //expected texts of the body-contains assertions, as written (let variables not filled in)
+    public static List<String> bodyPatterns(List<Statement> stmts, int index, String name) {
+        List<String> patterns = new ArrayList<>();
+        for (int i = index + 1; i < stmts.size(); i++) {
+            Statement s = stmts.get(i);
+            if (name == null && (s instanceof Request || s instanceof Parallel)) break;
+            if (s instanceof Assertion && ((Assertion) s).getType() == Assertion.Type.BODY_CONTAINS
+                    && Objects.equals(((Assertion) s).getTarget(), name)) {
+                patterns.add(((Assertion) s).getExpectedValue());
+            }
+        }
+        return patterns;
+    }
+
+    //JSON paths the captures and json assertions look up, each once
+    public static List<String> jsonPaths(List<Statement> stmts, int index, String name) {
+        List<String> paths = new ArrayList<>();
+        for (int i = index + 1; i < stmts.size(); i++) {
+            Statement s = stmts.get(i);
+            if (name == null && (s instanceof Request || s instanceof Parallel)) break;
+            String path = s instanceof Capture && Objects.equals(((Capture) s).getTarget(), name) ? ((Capture) s).getPath()
+                : s instanceof Assertion && Objects.equals(((Assertion) s).getTarget(), name) ? ((Assertion) s).getJsonPath()
+                : null;
+            if (path != null && !paths.contains(path)) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+}
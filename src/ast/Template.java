@@ -0,0 +1,161 @@
+// No package declaration needed
+package ast;
+
+import java.util.*;
+
+// A string with $name or ${name} references to let variables, split once into literal text and
+// names so it can be filled in with a single pass. A name runs as far as it can ($idx is never
+// $id followed by "x"); ${id}x ends it early. $$ is a literal $, and a $ that is not followed
+// by a name is kept as it is.
+public final class Template {
+    private static final String[] NO_NAMES = new String[0];
+
+    private final String[] literals;   // literals[i] comes before names[i], the last one after all names
+    private final String[] names;
+    private final int literalLength;
+
+    private Template(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String l : literals) {
+            length += l.length();
+        }
+        this.literalLength = length;
+    }
+
+    //throws IllegalArgumentException for a ${ without a name and a closing }
+    public static Template parse(String text) {
+        if (text.indexOf('$') < 0) {
+            return new Template(new String[] { text }, NO_NAMES);
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int n = text.length();
+        int i = 0;
+        while (true) {
+            int dollar = text.indexOf('$', i);
+            if (dollar < 0 || dollar == n - 1) {
+                literal.append(text, i, n);
+                break;
+            }
+            char next = text.charAt(dollar + 1);
+            int nameStart;
+            int nameEnd;
+            int after;
+            if (next == '$') {
+                literal.append(text, i, dollar + 1);
+                i = dollar + 2;
+                continue;
+            } else if (next == '{') {
+                nameStart = dollar + 2;
+                nameEnd = text.indexOf('}', nameStart);
+                if (nameEnd < 0 || !isName(text, nameStart, nameEnd)) {
+                    throw new IllegalArgumentException("Malformed variable reference '"
+                        + text.substring(dollar, nameEnd < 0 ? n : nameEnd + 1) + "', expected ${name}");
+                }
+                after = nameEnd + 1;
+            } else if (isNameStart(next)) {
+                nameStart = dollar + 1;
+                nameEnd = nameStart + 1;
+                while (nameEnd < n && isNamePart(text.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                after = nameEnd;
+            } else {
+                literal.append(text, i, dollar + 1);
+                i = dollar + 1;
+                continue;
+            }
+            literal.append(text, i, dollar);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            names.add(text.substring(nameStart, nameEnd));
+            i = after;
+        }
+        literals.add(literal.toString());
+        return new Template(literals.toArray(new String[0]), names.toArray(NO_NAMES));
+    }
+
+    //text as it is, with no names in it (a $ stays a $)
+    public static Template literal(String text) {
+        return new Template(new String[] { text }, NO_NAMES);
+    }
+
+    //Names in order of appearance, repeats included
+    public List<String> getNames() {
+        return Arrays.asList(names);
+    }
+
+    //Literal text around the names: one more than there are names
+    public List<String> getLiterals() {
+        return Arrays.asList(literals);
+    }
+
+    public boolean isConstant() {
+        return names.length == 0;
+    }
+
+    //Fills in the names values has and keeps the others, e.g. the let variables at compile time
+    //while names captured from responses are left for when the test runs
+    public Template bind(Map<String, String> values) {
+        if (names.length == 0) {
+            return this;
+        }
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> boundNames = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            String value = values.get(names[i]);
+            if (value != null) {
+                literal.append(value);
+            } else {
+                boundLiterals.add(literal.toString());
+                literal.setLength(0);
+                boundNames.add(names[i]);
+            }
+            literal.append(literals[i + 1]);
+        }
+        boundLiterals.add(literal.toString());
+        return new Template(boundLiterals.toArray(new String[0]), boundNames.toArray(NO_NAMES));
+    }
+
+    //throws IllegalArgumentException for a name that values does not have
+    public String render(Map<String, String> values) {
+        if (names.length == 0) {
+            return literals[0];
+        }
+        String[] resolved = new String[names.length];
+        int length = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            resolved[i] = values.get(names[i]);
+            if (resolved[i] == null) {
+                throw new IllegalArgumentException("Undefined variable $" + names[i]);
+            }
+            length += resolved[i].length();
+        }
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]).append(resolved[i]);
+        }
+        return out.append(literals[names.length]).toString();
+    }
+
+    //same names as IDENTIFIER in the scanner
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isName(String text, int start, int end) {
+        if (start >= end || !isNameStart(text.charAt(start))) return false;
+        for (int i = start + 1; i < end; i++) {
+            if (!isNamePart(text.charAt(i))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package runner;
+
+import ast.*;
+import java.net.http.HttpClient;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.LockSupport;
+
+//Open-model load: starts test iterations at a fixed rate, independent of how fast the server answers.
+//Each iteration has an intended start time on a fixed schedule. Latency measured from that time
+//(corrected) includes any delay a stalled server caused to later sends, so it does not suffer from
+//coordinated omission; latency measured from the actual send (uncorrected) is reported alongside.
+public class ArrivalRateRunner {
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Interpreter interpreter;
+
+    public ArrivalRateRunner(Interpreter interpreter) {
+        this.interpreter = interpreter;
+    }
+
+    public LoadResult run(Load load) throws InterruptedException {
+        CompiledTest test = interpreter.compileTest(load.getTest());
+        HttpClient client = interpreter.getHttpClient();
+        LatencyHistogram corrected = new LatencyHistogram();
+        LatencyHistogram uncorrected = new LatencyHistogram();
+        LongAdder iterations = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicLong outstanding = new AtomicLong();
+        //measured iterations that have not completed; whoever removes one records it, so an
+        //iteration finishing after the drain gave up on it is not counted twice
+        Set<Long> pending = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        double nanosPerIteration = 1_000_000_000.0 / load.getRatePerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(load.getWarmupMillis());
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(load.getDurationMillis());
+
+        for (long i = 0; ; i++) {
+            //computed from the start each time so rounding never accumulates into drift
+            long intended = start + (long) (i * nanosPerIteration);
+            if (intended - end >= 0) break;
+
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+
+            long sent = System.nanoTime();
+            boolean measured = intended - measureFrom >= 0;
+            Long id = i;
+            outstanding.incrementAndGet();
+            if (measured) {
+                pending.add(id);
+            }
+            test.executeAsync(new ExecutionContext(client, false)).whenComplete((v, e) -> {
+                long done = System.nanoTime();
+                if (measured && pending.remove(id)) {
+                    corrected.recordNanos(done - intended);
+                    uncorrected.recordNanos(done - sent);
+                    iterations.increment();
+                    if (e != null) {
+                        errors.increment();
+                        firstError.compareAndSet(null, e instanceof CompletionException ? e.getCause() : e);
+                    }
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+
+        //let in-flight iterations finish; those still pending after the timeout count as errors
+        long drainUntil = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (outstanding.get() > 0 && System.nanoTime() - drainUntil < 0) {
+            Thread.sleep(10);
+        }
+        long timedOut = 0;
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                timedOut++;
+            }
+        }
+        if (timedOut > 0) {
+            iterations.add(timedOut);
+            errors.add(timedOut);
+            firstError.compareAndSet(null, new TimeoutException(timedOut + " iterations still pending after the "
+                + TimeUnit.NANOSECONDS.toSeconds(DRAIN_TIMEOUT_NANOS) + " s drain"));
+        }
+
+        long elapsed = end - measureFrom;
+        return new LoadResult(load.getTestName(), formatRate(load.getRatePerSecond()), elapsed,
+            iterations.sum(), errors.sum(), timedOut, corrected, uncorrected, firstError.get());
+    }
+
+    private static String formatRate(double perSecond) {
+        return (perSecond == Math.rint(perSecond) ? String.valueOf((long) perSecond)
+            : String.format("%.2f", perSecond)) + "/s";
+    }
+}
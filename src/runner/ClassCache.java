@@ -0,0 +1,223 @@
+package runner;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+//Content-addressed, size-bounded store of compiled test classes, so an unchanged suite skips
+//lexing, parsing, generation and javac and goes straight to execution.
+//
+//Entries are files named after the key, written to a temporary file and renamed into place, so
+//readers in other processes (parallel CI jobs) see a whole entry or none. A hit touches the
+//file's modification time, and eviction drops the least recently used entries under a file lock
+//once the cache grows past its limit. A damaged or vanished entry is treated as a miss.
+public class ClassCache {
+    private static final int MAGIC = 0x544c4343;   // "TLCC"
+    private static final int FORMAT = 1;
+
+    private final Path dir;
+    private final long maxBytes;
+
+    public ClassCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    //$XDG_CACHE_HOME/testlang, or ~/.cache/testlang
+    public static Path defaultDir() {
+        String xdg = System.getenv("XDG_CACHE_HOME");
+        Path base = xdg != null && !xdg.isEmpty() ? Paths.get(xdg) : Paths.get(System.getProperty("user.home"), ".cache");
+        return base.resolve("testlang");
+    }
+
+    //Compiled classes of one suite, plus which of them to run and the JUnit settings
+    public static class Entry {
+        private final Map<String, byte[]> classes;
+        private final List<String> testClasses;
+        private final Map<String, String> configuration;
+
+        public Entry(Map<String, byte[]> classes, List<String> testClasses, Map<String, String> configuration) {
+            this.classes = classes;
+            this.testClasses = testClasses;
+            this.configuration = configuration;
+        }
+
+        public Map<String, byte[]> getClasses() { return classes; }
+        public List<String> getTestClasses() { return testClasses; }
+        public Map<String, String> getConfiguration() { return configuration; }
+    }
+
+    //SHA-256 over the parts, each length-prefixed so no two different lists hash alike
+    public static String key(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(String.valueOf(part.length).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(part);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Entry get(String key) {
+        Path file = entryFile(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                return null;
+            }
+            Map<String, String> configuration = new LinkedHashMap<>();
+            for (int n = in.readInt(); n > 0; n--) {
+                configuration.put(in.readUTF(), in.readUTF());
+            }
+            List<String> testClasses = new ArrayList<>();
+            for (int n = in.readInt(); n > 0; n--) {
+                testClasses.add(in.readUTF());
+            }
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            for (int n = in.readInt(); n > 0; n--) {
+                String name = in.readUTF();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                classes.put(name, bytes);
+            }
+            touch(file);
+            return new Entry(classes, testClasses, configuration);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            //truncated by a crashed writer or a full disk: drop it, it is rebuilt on this run
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    //Best effort: a cache that cannot be written must not fail the run
+    public void put(String key, Entry entry) {
+        Path file = entryFile(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeInt(entry.configuration.size());
+                for (Map.Entry<String, String> c : entry.configuration.entrySet()) {
+                    out.writeUTF(c.getKey());
+                    out.writeUTF(c.getValue());
+                }
+                out.writeInt(entry.testClasses.size());
+                for (String name : entry.testClasses) {
+                    out.writeUTF(name);
+                }
+                out.writeInt(entry.classes.size());
+                for (Map.Entry<String, byte[]> c : entry.classes.entrySet()) {
+                    out.writeUTF(c.getKey());
+                    out.writeInt(c.getValue().length);
+                    out.write(c.getValue());
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            evict();
+        } catch (IOException e) {
+            System.err.println("⚠️  Could not write the class cache: " + e.getMessage());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    //Deletes least recently used entries until the cache is back under 90% of its limit. The lock
+    //keeps concurrent processes from evicting at the same time; readers need none, a file deleted
+    //under an open reader stays readable, and a vanished one is a miss.
+    private void evict() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(shard, "*.bin")) {
+                    for (Path f : files) {
+                        entries.add(f);
+                        total += sizeOf(f);
+                    }
+                }
+            }
+        }
+        if (total <= maxBytes) return;
+
+        try (FileChannel channel = FileChannel.open(dir.resolve(".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                Map<Path, FileTime> used = new HashMap<>();
+                for (Path f : entries) {
+                    used.put(f, lastUsed(f));
+                }
+                entries.sort(Comparator.comparing(used::get));
+                long target = maxBytes / 10 * 9;
+                for (Path f : entries) {
+                    if (total <= target) break;
+                    long size = sizeOf(f);
+                    try {
+                        if (Files.deleteIfExists(f)) total -= size;
+                    } catch (IOException e) {
+                        //still open on a platform that will not delete it; skip
+                    }
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private Path entryFile(String key) {
+        return dir.resolve(key.substring(0, 2)).resolve(key + ".bin");
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            //only affects eviction order
+        }
+    }
+
+    private static long sizeOf(Path f) {
+        try {
+            return Files.size(f);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastUsed(Path f) {
+        try {
+            return Files.getLastModifiedTime(f);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
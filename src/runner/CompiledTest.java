@@ -0,0 +1,155 @@
+package runner;
+
+import ast.Template;
+import java.util.*;
+import java.util.concurrent.*;
+import runtime.*;
+
+//A test whose statements were bound into steps once, so it can be executed repeatedly
+public class CompiledTest {
+    public interface Step {
+        void run(ExecutionContext ctx) throws Exception;
+    }
+
+    //Sends one request; exposed so async executors can issue it with sendAsync. The request is
+    //built once up front, unless it uses values captured from an earlier response in the test
+    public static class RequestStep implements Step {
+        private final RequestSpec spec;
+        private final BodyMatcher matcher;
+
+        //only for requests built per execution
+        private final String method;
+        private final String baseUrl;
+        private final Template path;
+        private final Template body;
+        private final Map<String, Template> headers;
+
+        //matcher holds the body-contains patterns and json paths checked against this request's response
+        public RequestStep(RequestSpec spec, BodyMatcher matcher) {
+            this.spec = spec;
+            this.matcher = matcher;
+            this.method = null;
+            this.baseUrl = null;
+            this.path = null;
+            this.body = null;
+            this.headers = null;
+        }
+
+        //path, body (null for none) and header values are filled in from the captured values
+        //each time the step runs; the let variables are already bound into them
+        public RequestStep(String method, String baseUrl, Template path, Template body,
+                           Map<String, Template> headers, BodyMatcher matcher) {
+            this.spec = null;
+            this.matcher = matcher;
+            this.method = method;
+            this.baseUrl = baseUrl;
+            this.path = path;
+            this.body = body;
+            this.headers = headers;
+        }
+
+        public BodyMatcher getMatcher() { return matcher; }
+
+        public RequestSpec getSpec(ExecutionContext ctx) {
+            if (spec != null) {
+                return spec;
+            }
+            Map<String, String> captured = ctx.getCaptured();
+            Map<String, String> values = new LinkedHashMap<>();
+            headers.forEach((k, v) -> values.put(k, v.render(captured)));
+            String endpoint = path.render(captured);
+            String url = endpoint.startsWith("/") ? baseUrl + endpoint : endpoint;
+            return RequestSpec.of(method, url, body != null ? body.render(captured) : null, values);
+        }
+
+        @Override
+        public void run(ExecutionContext ctx) throws Exception {
+            ctx.setResponse(Http.send(ctx.getHttpClient(), getSpec(ctx), matcher, ctx.isLogging()));
+        }
+    }
+
+    //Sends the requests of a parallel block together and waits for all of them; the responses with
+    //a name are kept for the checks after the block
+    public static class ParallelStep implements Step {
+        private final List<RequestStep> requests;
+        private final List<String> names;   //null for a request without a name
+
+        public ParallelStep(List<RequestStep> requests, List<String> names) {
+            this.requests = requests;
+            this.names = names;
+        }
+
+        public RequestSpec[] getSpecs(ExecutionContext ctx) {
+            RequestSpec[] specs = new RequestSpec[requests.size()];
+            for (int i = 0; i < specs.length; i++) {
+                specs[i] = requests.get(i).getSpec(ctx);
+            }
+            return specs;
+        }
+
+        public BodyMatcher[] getMatchers() {
+            BodyMatcher[] matchers = new BodyMatcher[requests.size()];
+            for (int i = 0; i < matchers.length; i++) {
+                matchers[i] = requests.get(i).getMatcher();
+            }
+            return matchers;
+        }
+
+        public void store(ExecutionContext ctx, Response[] responses) {
+            for (int i = 0; i < responses.length; i++) {
+                if (names.get(i) != null) {
+                    ctx.setResponse(names.get(i), responses[i]);
+                }
+            }
+        }
+
+        @Override
+        public void run(ExecutionContext ctx) throws Exception {
+            store(ctx, Http.sendAll(ctx.getHttpClient(), getSpecs(ctx), getMatchers(), ctx.isLogging()));
+        }
+    }
+
+    private final String name;
+    private final List<Step> steps;
+
+    public CompiledTest(String name, List<Step> steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    public String getName() { return name; }
+    public List<Step> getSteps() { return steps; }
+
+    public void execute(ExecutionContext ctx) throws Exception {
+        for (Step s : steps) {
+            s.run(ctx);
+        }
+    }
+
+    //Chains the steps without blocking: requests go through sendAsync, other steps run on completion
+    public CompletableFuture<Void> executeAsync(ExecutionContext ctx) {
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (Step s : steps) {
+            if (s instanceof RequestStep) {
+                RequestStep step = (RequestStep) s;
+                result = result.thenCompose(v -> Http.sendAsync(ctx.getHttpClient(), step.getSpec(ctx),
+                    step.getMatcher()).thenAccept(ctx::setResponse));
+            } else if (s instanceof ParallelStep) {
+                ParallelStep step = (ParallelStep) s;
+                result = result.thenCompose(v -> Http.sendAllAsync(ctx.getHttpClient(), step.getSpecs(ctx),
+                    step.getMatchers()).thenAccept(responses -> step.store(ctx, responses)));
+            } else {
+                result = result.thenRun(() -> {
+                    try {
+                        s.run(ctx);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package runner;
+
+import java.net.http.*;
+import java.util.*;
+import runtime.Response;
+
+//Per-execution state for one compiled test: the shared client, the last response, the named
+//responses of parallel blocks and the values captured from responses so far
+public class ExecutionContext {
+    private final HttpClient httpClient;
+    private final boolean logging;
+    private Response response;
+    private final Map<String, Response> named = new HashMap<>();
+    private final Map<String, String> captured = new HashMap<>();
+
+    public ExecutionContext(HttpClient httpClient) {
+        this(httpClient, true);
+    }
+
+    //logging = false keeps load runs from printing every request and response
+    public ExecutionContext(HttpClient httpClient, boolean logging) {
+        this.httpClient = httpClient;
+        this.logging = logging;
+    }
+
+    public HttpClient getHttpClient() { return httpClient; }
+    public boolean isLogging() { return logging; }
+
+    public Response getResponse() {
+        if (response == null) {
+            throw new IllegalStateException("expect used before any request was sent");
+        }
+        return response;
+    }
+
+    public void setResponse(Response response) {
+        this.response = response;
+    }
+
+    //name is a response name from a parallel block, null for the last request's response
+    public Response getResponse(String name) {
+        if (name == null) {
+            return getResponse();
+        }
+        Response r = named.get(name);
+        if (r == null) {
+            throw new IllegalStateException("expect " + name + " used before its parallel block was sent");
+        }
+        return r;
+    }
+
+    public void setResponse(String name, Response response) {
+        named.put(name, response);
+    }
+
+    public Map<String, String> getCaptured() { return captured; }
+
+    public void capture(String name, String value) {
+        captured.put(name, value);
+    }
+}
@@ -0,0 +1,262 @@
+package runner;
+
+import ast.*;
+import java.net.http.HttpClient;
+import java.util.*;
+import java.util.concurrent.*;
+import runtime.*;
+
+//Executes a parsed Program in the current JVM, without generating or compiling Java code.
+//Each test is bound into a CompiledTest once; URLs, bodies and headers are resolved up front.
+public class Interpreter {
+    private final Program prog;
+    private String baseUrl = "";
+    private int parallelism = 1;
+    private final Map<String, String> globalHeaders = new LinkedHashMap<>();
+    private ClientSettings clientSettings = ClientSettings.DEFAULT;
+
+    public Interpreter(Program program) {
+        this.prog = program;
+
+        if (program.getConfig() != null) {
+            Config config = program.getConfig();
+            if (config.getBaseUrl() != null) {
+                baseUrl = config.getBaseUrl();
+            }
+            config.getDefaultHeaders().forEach((k, v) -> RequestSpec.putHeader(globalHeaders, k, v));
+            parallelism = config.getParallelism();
+            clientSettings = new ClientSettings(config.isHttp2(), config.getMaxConnections(),
+                config.getConnectTimeoutMillis(), config.isVirtualThreads());
+        }
+    }
+
+    public List<CompiledTest> compile() {
+        List<CompiledTest> compiled = new ArrayList<>();
+        for (Test t : prog.getTests()) {
+            compiled.add(compileTest(t));
+        }
+        return compiled;
+    }
+
+    public CompiledTest compileTest(Test test) {
+        List<CompiledTest.Step> steps = new ArrayList<>();
+        List<Statement> stmts = test.getStatements();
+        //per response (null for the last request's, else the name from a parallel block): the json
+        //paths of its matcher and the next body-contains pattern
+        Map<String, List<String>> jsonPaths = new HashMap<>();
+        Map<String, Integer> bodyPatternIndex = new HashMap<>();
+        for (int i = 0; i < stmts.size(); i++) {
+            Statement s = stmts.get(i);
+            if (s instanceof Request) {
+                List<String> paths = ResponseChecks.jsonPaths(stmts, i, null);
+                jsonPaths.put(null, paths);
+                bodyPatternIndex.put(null, 0);
+                steps.add(compileRequest((Request) s, bodyPatterns(stmts, i, null), paths));
+            } else if (s instanceof Parallel) {
+                List<CompiledTest.RequestStep> requests = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                for (Request r : ((Parallel) s).getRequests()) {
+                    String name = r.getName();
+                    List<String> paths = name != null ? ResponseChecks.jsonPaths(stmts, i, name) : new ArrayList<>();
+                    List<String> patterns = name != null ? bodyPatterns(stmts, i, name) : new ArrayList<>();
+                    if (name != null) {
+                        jsonPaths.put(name, paths);
+                        bodyPatternIndex.put(name, 0);
+                    }
+                    requests.add(compileRequest(r, patterns, paths));
+                    names.add(name);
+                }
+                steps.add(new CompiledTest.ParallelStep(requests, names));
+            } else if (s instanceof Assertion) {
+                Assertion a = (Assertion) s;
+                String target = a.getTarget();
+                List<String> paths = jsonPaths.getOrDefault(target, Collections.emptyList());
+                int patternIndex = bodyPatternIndex.getOrDefault(target, 0);
+                steps.add(compileAssertion(a, patternIndex, paths.indexOf(a.getJsonPath())));
+                if (a.getType() == Assertion.Type.BODY_CONTAINS) bodyPatternIndex.put(target, patternIndex + 1);
+            } else if (s instanceof Capture) {
+                Capture c = (Capture) s;
+                String name = c.getName();
+                String target = c.getTarget();
+                int pathIndex = jsonPaths.getOrDefault(target, Collections.emptyList()).indexOf(c.getPath());
+                steps.add(ctx -> ctx.capture(name, ctx.getResponse(target).body().capture(pathIndex)));
+            }
+        }
+        return new CompiledTest(test.getName(), steps);
+    }
+
+    //the same client generated tests with this config use, so they share its connection pool
+    public HttpClient getHttpClient() {
+        return Http.client(clientSettings);
+    }
+
+    //executor = "virtual": parallel tests and load users run on virtual threads where the JVM has them
+    public boolean isVirtualThreads() {
+        return clientSettings.isVirtualThreads();
+    }
+
+    public SuiteResult run(String suiteName) {
+        return run(suiteName, prog.getTests());
+    }
+
+    //Runs only the given tests of the program (e.g. the ones watch mode saw change)
+    public SuiteResult run(String suiteName, List<Test> selected) {
+        SuiteResult suite = new SuiteResult(suiteName);
+        long suiteStart = System.nanoTime();
+
+        List<CompiledTest> tests = new ArrayList<>();
+        for (Test t : selected) {
+            tests.add(compileTest(t));
+        }
+        if (parallelism > 1) {
+            //results are still reported in declaration order. Virtual threads are not pooled, so
+            //slots keeps at most parallelism tests running on them too
+            ExecutorService pool = Threads.newExecutor(isVirtualThreads(), parallelism);
+            Semaphore slots = new Semaphore(parallelism);
+            try {
+                List<Future<TestResult>> futures = new ArrayList<>();
+                for (CompiledTest t : tests) {
+                    futures.add(pool.submit(() -> {
+                        slots.acquire();
+                        try {
+                            return runTest(t);
+                        } finally {
+                            slots.release();
+                        }
+                    }));
+                }
+                for (Future<TestResult> f : futures) {
+                    suite.add(f.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+        } else {
+            for (CompiledTest t : tests) {
+                suite.add(runTest(t));
+            }
+        }
+
+        suite.setDurationMillis((System.nanoTime() - suiteStart) / 1_000_000);
+        return suite;
+    }
+
+    public TestResult runTest(CompiledTest test) {
+        long start = System.nanoTime();
+        try {
+            test.execute(new ExecutionContext(getHttpClient()));
+            return new TestResult(test.getName(), TestResult.Status.SUCCESSFUL, null,
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (Throwable e) {
+            return new TestResult(test.getName(), TestResult.Status.FAILED, e,
+                (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    //expected texts of the body-contains checks of the request at index, let variables filled in
+    private List<String> bodyPatterns(List<Statement> stmts, int index, String name) {
+        List<String> patterns = new ArrayList<>();
+        for (String text : ResponseChecks.bodyPatterns(stmts, index, name)) {
+            patterns.add(interpolate(text));
+        }
+        return patterns;
+    }
+
+    private CompiledTest.RequestStep compileRequest(Request r, List<String> bodyPatterns, List<String> jsonPaths) {
+        JsonPaths json = jsonPaths.isEmpty() ? null : new JsonPaths(jsonPaths.toArray(new String[0]));
+        BodyMatcher matcher = new BodyMatcher(json, bodyPatterns.toArray(new String[0]));
+        if (usesCaptures(r)) {
+            return compileCapturingRequest(r, matcher);
+        }
+        String endpoint = interpolate(r.getPath());
+        String fullUrl = endpoint.startsWith("/") ? baseUrl + endpoint : endpoint;
+        String method = r.getMethod().name();
+        String payload = null;
+
+        if (r.getMethod() == HttpMethod.POST || r.getMethod() == HttpMethod.PUT) {
+            payload = interpolate(r.getBody());
+            if (payload == null) payload = "";
+        }
+
+        //same header order as the generated code: config headers, Accept, then per-request
+        Map<String, String> headers = new LinkedHashMap<>(globalHeaders);
+        RequestSpec.putHeader(headers, "Accept", "application/json");
+        r.getHeaders().forEach((k, v) -> RequestSpec.putHeader(headers, k, interpolate(v)));
+
+        return new CompiledTest.RequestStep(RequestSpec.of(method, fullUrl, payload, headers), matcher);
+    }
+
+    private boolean usesCaptures(Request r) {
+        if (!bind(r.getPath()).isConstant() || (r.getBody() != null && !bind(r.getBody()).isConstant())) {
+            return true;
+        }
+        for (String value : r.getHeaders().values()) {
+            if (!bind(value).isConstant()) return true;
+        }
+        return false;
+    }
+
+    //the let variables are filled in now, the captured values when the step runs
+    private CompiledTest.RequestStep compileCapturingRequest(Request r, BodyMatcher matcher) {
+        Template body = null;
+        if (r.getMethod() == HttpMethod.POST || r.getMethod() == HttpMethod.PUT) {
+            body = bind(r.getBody() != null ? r.getBody() : "");
+        }
+        Map<String, Template> headers = new LinkedHashMap<>();
+        //config header values are sent as written, like in the generated code
+        globalHeaders.forEach((k, v) -> RequestSpec.putHeader(headers, k, Template.literal(v)));
+        RequestSpec.putHeader(headers, "Accept", Template.literal("application/json"));
+        r.getHeaders().forEach((k, v) -> RequestSpec.putHeader(headers, k, bind(v)));
+        return new CompiledTest.RequestStep(r.getMethod().name(), baseUrl, bind(r.getPath()), body, headers, matcher);
+    }
+
+    //bodyPatternIndex and jsonPathIndex are the assertion's pattern and path in the preceding
+    //request's BodyMatcher
+    private CompiledTest.Step compileAssertion(Assertion a, int bodyPatternIndex, int jsonPathIndex) {
+        String target = a.getTarget();
+        switch (a.getType()) {
+            case STATUS:
+                int expectedStatus = a.getStatusCode();
+                return ctx -> Expect.status(ctx.getResponse(target), expectedStatus);
+            case BODY_CONTAINS:
+                return ctx -> Expect.bodyContains(ctx.getResponse(target), bodyPatternIndex);
+            case HEADER_EQUALS:
+                String headerName = a.getHeaderName();
+                String expectedValue = interpolate(a.getExpectedValue());
+                return ctx -> Expect.header(ctx.getResponse(target), headerName, expectedValue);
+            case HEADER_CONTAINS:
+                String containsName = a.getHeaderName();
+                String substring = interpolate(a.getExpectedValue());
+                return ctx -> Expect.headerContains(ctx.getResponse(target), containsName, substring);
+            case LATENCY_BELOW:
+                long latencyLimit = a.getLimitMillis();
+                return ctx -> Expect.latencyBelow(ctx.getResponse(target), latencyLimit);
+            case TTFB_BELOW:
+                long ttfbLimit = a.getLimitMillis();
+                return ctx -> Expect.ttfbBelow(ctx.getResponse(target), ttfbLimit);
+            case JSON_EQUALS:
+                String expectedJson = a.isExpectString() ? interpolate(a.getExpectedValue()) : a.getExpectedValue();
+                boolean string = a.isExpectString();
+                return ctx -> Expect.json(ctx.getResponse(target), jsonPathIndex, expectedJson, string);
+            case JSON_SIZE:
+                int expectedSize = a.getExpectedSize();
+                return ctx -> Expect.jsonSize(ctx.getResponse(target), jsonPathIndex, expectedSize);
+            default:
+                throw new IllegalArgumentException("Unsupported assertion: " + a.getType());
+        }
+    }
+
+    //fills in $name / ${name} from the program's let variables
+    private String interpolate(String text) {
+        if (text == null) return null;
+        return Template.parse(text).render(prog.getVariableValues());
+    }
+
+    private Template bind(String text) {
+        return Template.parse(text).bind(prog.getVariableValues());
+    }
+}
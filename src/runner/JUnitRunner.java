@@ -0,0 +1,79 @@
+package runner;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.*;
+import org.junit.platform.launcher.*;
+import org.junit.platform.launcher.core.*;
+import org.junit.platform.launcher.listeners.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+//Runs compiled test classes through the JUnit Platform Launcher API in the current JVM.
+//Needs the junit-platform-console-standalone jar on the runtime class path.
+public class JUnitRunner {
+
+    //Compiles the generated sources in memory and runs every class as a JUnit test class.
+    //configuration holds JUnit configuration parameters, e.g. from CodeGenerator.getJUnitProperties
+    public static Report compileAndRun(Map<String, String> sources,
+                                       Map<String, String> configuration) throws Exception {
+        Map<String, byte[]> classes = new MemoryCompiler().compile(sources);
+        return runClasses(classes, new ArrayList<>(sources.keySet()), configuration);
+    }
+
+    //Runs already compiled classes (e.g. from the ClassCache); testClasses are the ones to select
+    public static Report runClasses(Map<String, byte[]> classes, List<String> testClasses,
+                                    Map<String, String> configuration) throws ClassNotFoundException {
+        ClassLoader loader = new MemoryCompiler.MemoryClassLoader(classes,
+            JUnitRunner.class.getClassLoader());
+
+        List<Class<?>> loaded = new ArrayList<>();
+        for (String name : testClasses) {
+            loaded.add(loader.loadClass(name));
+        }
+        return run(loaded, loader, configuration);
+    }
+
+    public static Report run(List<Class<?>> testClasses, ClassLoader loader,
+                             Map<String, String> configuration) {
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request()
+            .configurationParameters(configuration);
+        for (Class<?> c : testClasses) {
+            request.selectors(selectClass(c));
+        }
+
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        Thread current = Thread.currentThread();
+        ClassLoader previous = current.getContextClassLoader();
+        current.setContextClassLoader(loader);
+        try {
+            Launcher launcher = LauncherFactory.create();
+            launcher.execute(request.build(), listener);
+        } finally {
+            current.setContextClassLoader(previous);
+        }
+        return new Report(listener.getSummary());
+    }
+
+    //Plain view of the JUnit summary so callers need no JUnit types of their own
+    public static class Report {
+        private final TestExecutionSummary summary;
+
+        Report(TestExecutionSummary summary) {
+            this.summary = summary;
+        }
+
+        public boolean isSuccessful() {
+            return summary.getTotalFailureCount() == 0;
+        }
+
+        public long getTestsFound() { return summary.getTestsFoundCount(); }
+        public long getTestsFailed() { return summary.getTestsFailedCount(); }
+
+        public void printReport(PrintStream out) {
+            PrintWriter writer = new PrintWriter(out);
+            summary.printFailuresTo(writer, 10);
+            summary.printTo(writer);
+            writer.flush();
+        }
+    }
+}
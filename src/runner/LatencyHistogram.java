@@ -0,0 +1,90 @@
+package runner;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.*;
+
+//Fixed-size, lock-free latency histogram with log-linear buckets (about 1.5% precision).
+//Values are kept in microseconds from 0 up to one hour; anything above is clamped.
+//Recording is a single atomic increment, so many threads can record without contention on a lock.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_HALF = 64;
+    private static final long MAX_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(index(MAX_MICROS) + 1);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMicros(long micros) {
+        long v = Math.min(Math.max(micros, 0), MAX_MICROS);
+        counts.incrementAndGet(index(v));
+        totalCount.increment();
+        totalMicros.add(v);
+        maxMicros.accumulateAndGet(v, Math::max);
+    }
+
+    public long getCount() { return totalCount.sum(); }
+    public long getMaxMicros() { return maxMicros.get(); }
+
+    public double getMeanMicros() {
+        long n = totalCount.sum();
+        return n == 0 ? 0 : (double) totalMicros.sum() / n;
+    }
+
+    //Smallest recorded bucket bound below which the given fraction (0..1) of values fall
+    public long getPercentileMicros(double fraction) {
+        long total = totalCount.sum();
+        if (total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c != 0) counts.addAndGet(i, c);
+        }
+        totalCount.add(other.totalCount.sum());
+        totalMicros.add(other.totalMicros.sum());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public void printPercentiles(PrintStream out, String indent) {
+        out.println(indent + "p50   " + formatMillis(getPercentileMicros(0.50)));
+        out.println(indent + "p90   " + formatMillis(getPercentileMicros(0.90)));
+        out.println(indent + "p99   " + formatMillis(getPercentileMicros(0.99)));
+        out.println(indent + "p999  " + formatMillis(getPercentileMicros(0.999)));
+        out.println(indent + "max   " + formatMillis(getMaxMicros()));
+    }
+
+    public static String formatMillis(long micros) {
+        return String.format("%10.3f ms", micros / 1000.0);
+    }
+
+    //Values below 128 get their own bucket, above that each power of two is split in 64
+    static int index(long v) {
+        if (v < 2 * SUB_BUCKET_HALF) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - 6;
+        return shift * SUB_BUCKET_HALF + (int) (v >>> shift);
+    }
+
+    static long upperBound(int index) {
+        if (index < 2 * SUB_BUCKET_HALF) return index;
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long sub = index - (long) shift * SUB_BUCKET_HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
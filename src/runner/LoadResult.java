@@ -0,0 +1,76 @@
+package runner;
+
+import java.io.PrintStream;
+
+public class LoadResult {
+    private final String testName;
+    private final String model;
+    private final long elapsedNanos;
+    private final long iterations;
+    private final long errors;
+    private final long timedOut;
+    private final LatencyHistogram latencies;
+    private final LatencyHistogram uncorrected;
+    private final Throwable firstError;
+
+    //model describes the load shape, e.g. "200 users" or "5000/s"; uncorrected is only
+    //set for arrival-rate runs, where latencies are measured from the intended start time
+    public LoadResult(String testName, String model, long elapsedNanos, long iterations,
+                      long errors, LatencyHistogram latencies, LatencyHistogram uncorrected,
+                      Throwable firstError) {
+        this(testName, model, elapsedNanos, iterations, errors, 0, latencies, uncorrected, firstError);
+    }
+
+    //timedOut are iterations given up on when the run ended; they are included in errors
+    public LoadResult(String testName, String model, long elapsedNanos, long iterations,
+                      long errors, long timedOut, LatencyHistogram latencies,
+                      LatencyHistogram uncorrected, Throwable firstError) {
+        this.testName = testName;
+        this.model = model;
+        this.elapsedNanos = elapsedNanos;
+        this.iterations = iterations;
+        this.errors = errors;
+        this.timedOut = timedOut;
+        this.latencies = latencies;
+        this.uncorrected = uncorrected;
+        this.firstError = firstError;
+    }
+
+    public String getTestName() { return testName; }
+    public long getIterations() { return iterations; }
+    public long getErrors() { return errors; }
+    public long getTimedOut() { return timedOut; }
+    public LatencyHistogram getLatencies() { return latencies; }
+    public LatencyHistogram getUncorrectedLatencies() { return uncorrected; }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : iterations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getErrorRate() {
+        return iterations == 0 ? 0 : (double) errors / iterations;
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("load " + testName + " (" + model + ", "
+            + (elapsedNanos / 1_000_000) + " ms measured)");
+        out.println(String.format("  iterations  %d", iterations));
+        out.println(String.format("  throughput  %.1f/s", getThroughput()));
+        out.println(String.format("  errors      %d (%.2f%%)", errors, getErrorRate() * 100));
+        if (timedOut > 0) {
+            out.println(String.format("  timed out   %d (still pending when the run ended)", timedOut));
+        }
+        if (firstError != null) {
+            out.println("  first error " + firstError);
+        }
+        if (uncorrected == null) {
+            out.println("  latency");
+            latencies.printPercentiles(out, "    ");
+        } else {
+            out.println("  latency (corrected, from intended start)");
+            latencies.printPercentiles(out, "    ");
+            out.println("  latency (uncorrected, from actual send)");
+            uncorrected.printPercentiles(out, "    ");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package runner;
+
+import ast.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import runtime.Threads;
+
+//Closed-model load: a fixed number of virtual users each repeat a test back to back.
+//Iterations that start during warmup run normally but are left out of the results.
+public class LoadRunner {
+    private final Interpreter interpreter;
+
+    public LoadRunner(Interpreter interpreter) {
+        this.interpreter = interpreter;
+    }
+
+    public LoadResult run(Load load) throws InterruptedException {
+        CompiledTest test = interpreter.compileTest(load.getTest());
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder iterations = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(load.getWarmupMillis());
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(load.getDurationMillis());
+
+        //one thread per user: virtual with executor = "virtual" on JDK 21+, so users blocked on a
+        //response do not each hold a platform thread
+        ExecutorService pool = Threads.newExecutor(interpreter.isVirtualThreads(), load.getUsers());
+        for (int u = 0; u < load.getUsers(); u++) {
+            pool.execute(() -> {
+                ExecutionContext ctx = new ExecutionContext(interpreter.getHttpClient(), false);
+                while (!Thread.currentThread().isInterrupted()) {
+                    long t0 = System.nanoTime();
+                    if (t0 - end >= 0) break;
+
+                    boolean failed = false;
+                    try {
+                        test.execute(ctx);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    } catch (Throwable e) {
+                        failed = true;
+                        firstError.compareAndSet(null, e);
+                    }
+
+                    if (t0 - measureFrom >= 0) {
+                        latencies.recordNanos(System.nanoTime() - t0);
+                        iterations.increment();
+                        if (failed) errors.increment();
+                    }
+                }
+            });
+        }
+
+        pool.shutdown();
+        long grace = TimeUnit.SECONDS.toNanos(30);
+        if (!pool.awaitTermination(end - System.nanoTime() + grace, TimeUnit.NANOSECONDS)) {
+            pool.shutdownNow();
+        }
+
+        long elapsed = Math.max(0, Math.min(System.nanoTime(), end) - measureFrom);
+        return new LoadResult(load.getTestName(), load.getUsers() + " users", elapsed,
+            iterations.sum(), errors.sum(), latencies, null, firstError.get());
+    }
+}
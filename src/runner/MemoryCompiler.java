@@ -0,0 +1,127 @@
+package runner;
+
+import java.io.*;
+import java.net.URI;
+import java.util.*;
+import javax.tools.*;
+
+//Compiles generated Java source through javax.tools without touching the disk.
+//Sources are read from strings and class files are kept as byte arrays in memory.
+public class MemoryCompiler {
+    private final JavaCompiler compiler;
+    private final String classPath;
+
+    public MemoryCompiler() {
+        this(System.getProperty("java.class.path"));
+    }
+
+    public MemoryCompiler(String classPath) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, run on a JDK rather than a JRE");
+        }
+        this.classPath = classPath;
+    }
+
+    //Compiles the given sources (class name -> source) and returns class name -> bytecode
+    public Map<String, byte[]> compile(Map<String, String> sources) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, null, null);
+        MemoryFileManager fileManager = new MemoryFileManager(standard);
+
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> s : sources.entrySet()) {
+            units.add(new SourceFile(s.getKey(), s.getValue()));
+        }
+
+        List<String> options = Arrays.asList("-classpath", classPath, "-proc:none");
+        boolean ok = compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        if (!ok) {
+            StringBuilder msg = new StringBuilder("Compilation of generated tests failed:");
+            for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+                if (d.getKind() == Diagnostic.Kind.ERROR) {
+                    msg.append("\n  line ").append(d.getLineNumber()).append(": ")
+                        .append(d.getMessage(Locale.ROOT));
+                }
+            }
+            throw new IllegalStateException(msg.toString());
+        }
+        return fileManager.getClassBytes();
+    }
+
+    //Defines classes straight from the compiled bytes, delegating everything else to the parent
+    public static class MemoryClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        public MemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension),
+                Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static class ClassFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ClassFile(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension),
+                Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+
+        byte[] getBytes() {
+            return bytes.toByteArray();
+        }
+    }
+
+    private static class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, ClassFile> outputs = new LinkedHashMap<>();
+
+        MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            ClassFile file = new ClassFile(className);
+            outputs.put(className, file);
+            return file;
+        }
+
+        Map<String, byte[]> getClassBytes() {
+            Map<String, byte[]> result = new LinkedHashMap<>();
+            for (Map.Entry<String, ClassFile> e : outputs.entrySet()) {
+                result.put(e.getKey(), e.getValue().getBytes());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package runner;
+
+import java.io.PrintStream;
+import java.util.*;
+
+//Collected results of one suite, reported in the same shape as the JUnit console launcher
+public class SuiteResult {
+    private final String suiteName;
+    private final List<TestResult> results = new ArrayList<>();
+    private long durationMillis;
+
+    public SuiteResult(String suiteName) {
+        this.suiteName = suiteName;
+    }
+
+    public void add(TestResult result) {
+        results.add(result);
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public String getSuiteName() { return suiteName; }
+    public List<TestResult> getResults() { return results; }
+    public long getDurationMillis() { return durationMillis; }
+
+    public int getFailedCount() {
+        int failed = 0;
+        for (TestResult r : results) {
+            if (r.getStatus() == TestResult.Status.FAILED) failed++;
+        }
+        return failed;
+    }
+
+    public boolean isSuccessful() {
+        return getFailedCount() == 0;
+    }
+
+    public void printReport(PrintStream out) {
+        out.println(".");
+        out.println("'-- TestLang Interpreter " + (isSuccessful() ? "[OK]" : "[X]"));
+        out.println("  '-- " + suiteName + " " + (isSuccessful() ? "[OK]" : "[X]"));
+        for (int i = 0; i < results.size(); i++) {
+            TestResult r = results.get(i);
+            String branch = (i == results.size() - 1) ? "'--" : "+--";
+            out.print("    " + branch + " " + r.getDisplayName() + " ");
+            if (r.getStatus() == TestResult.Status.SUCCESSFUL) {
+                out.println("[OK]");
+            } else {
+                out.println("[X] " + r.getFailure());
+            }
+        }
+        out.println();
+
+        int failed = getFailedCount();
+        out.println("Test run finished after " + durationMillis + " ms");
+        printCount(out, results.size(), "tests found");
+        printCount(out, 0, "tests skipped");
+        printCount(out, results.size(), "tests started");
+        printCount(out, 0, "tests aborted");
+        printCount(out, results.size() - failed, "tests successful");
+        printCount(out, failed, "tests failed");
+    }
+
+    private void printCount(PrintStream out, int count, String label) {
+        out.println(String.format("[%10d %-22s]", count, label));
+    }
+}
@@ -0,0 +1,28 @@
+package runner;
+
+public class TestResult {
+    public enum Status {
+        SUCCESSFUL,
+        FAILED
+    }
+
+    private final String name;
+    private final Status status;
+    private final Throwable failure;
+    private final long durationMillis;
+
+    public TestResult(String name, Status status, Throwable failure, long durationMillis) {
+        this.name = name;
+        this.status = status;
+        this.failure = failure;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getName() { return name; }
+    public Status getStatus() { return status; }
+    public Throwable getFailure() { return failure; }
+    public long getDurationMillis() { return durationMillis; }
+
+    //Same display name the generated JUnit method gets
+    public String getDisplayName() { return "test" + name + "()"; }
+}
@@ -0,0 +1,240 @@
+package runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+//Whitespace-insensitive multi-pattern matcher for "expect body contains" (Aho-Corasick over UTF-8 bytes).
+//All patterns of one request are compiled into a single automaton once; each response is then
+//checked in one pass over its bytes as they arrive, instead of normalizing the body with a regex
+//and scanning it again for every pattern. Whitespace is skipped in both body and patterns and means
+//what \s meant in the old replaceAll normalization: space, tab, 0x0B, form feed, CR and LF.
+//JSON paths captured from the same response are looked up during that same pass.
+public final class BodyMatcher {
+    //for responses nothing is looked for in; the body is still buffered when it is logged
+    public static final BodyMatcher NONE = new BodyMatcher();
+
+    private final JsonPaths json;      //null when nothing is captured from the body
+    private final String[] patterns;
+    private final byte[][] keys;       //per state: bytes that have a goto transition
+    private final int[][] targets;     //per state: goto target for the byte at the same index
+    private final int[] fail;
+    private final int[][] outputs;     //per state: patterns that end here, including via fail links
+    private final boolean[] emptyPatterns;
+
+    public BodyMatcher(String... patterns) {
+        this(null, patterns);
+    }
+
+    public BodyMatcher(JsonPaths json, String... patterns) {
+        this.json = json;
+        this.patterns = patterns.clone();
+        this.emptyPatterns = new boolean[patterns.length];
+
+        List<byte[]> keyList = new ArrayList<>();
+        List<int[]> targetList = new ArrayList<>();
+        List<int[]> outputList = new ArrayList<>();
+        keyList.add(new byte[0]);
+        targetList.add(new int[0]);
+        outputList.add(new int[0]);
+
+        //1. trie of the whitespace-stripped patterns
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            boolean empty = true;
+            for (byte b : patterns[p].getBytes(StandardCharsets.UTF_8)) {
+                if (isWhitespace(b)) continue;
+                empty = false;
+                int next = find(keyList.get(state), targetList.get(state), b);
+                if (next < 0) {
+                    next = keyList.size();
+                    keyList.add(new byte[0]);
+                    targetList.add(new int[0]);
+                    outputList.add(new int[0]);
+                    keyList.set(state, append(keyList.get(state), b));
+                    targetList.set(state, append(targetList.get(state), next));
+                }
+                state = next;
+            }
+            if (empty) {
+                emptyPatterns[p] = true;
+            } else {
+                outputList.set(state, append(outputList.get(state), p));
+            }
+        }
+
+        this.keys = keyList.toArray(new byte[0][]);
+        this.targets = targetList.toArray(new int[0][]);
+        this.outputs = outputList.toArray(new int[0][]);
+        this.fail = new int[keys.length];
+
+        //2. failure links, breadth first so a state's fail target is always finished before it
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                byte b = keys[state][i];
+                int child = targets[state][i];
+                fail[child] = (state == 0) ? 0 : step(fail[state], b);
+                outputs[child] = merge(outputs[child], outputs[fail[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    public int size() { return patterns.length; }
+    public String pattern(int index) { return patterns[index]; }
+    public JsonPaths json() { return json; }
+
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    public HttpResponse.BodyHandler<MatchedBody> handler(boolean keepBody) {
+        return info -> subscriber(keepBody);
+    }
+
+    //The bytes are matched as they arrive. keepBody also buffers them, for a body that is logged;
+    //without it (load runs) nothing of the body is kept beyond what the JSON paths found
+    public HttpResponse.BodySubscriber<MatchedBody> subscriber(boolean keepBody) {
+        return new Subscriber(newScan(), json == null ? null : json.newScan(), keepBody ? new Buffer() : null);
+    }
+
+    //Matching state for one response body
+    public final class Scan {
+        private int state;
+        private final boolean[] found = emptyPatterns.clone();
+        private int remaining;
+
+        private Scan() {
+            for (boolean f : found) {
+                if (!f) remaining++;
+            }
+        }
+
+        public void feed(ByteBuffer buf) {
+            while (remaining > 0 && buf.hasRemaining()) {
+                byte b = buf.get();
+                if (isWhitespace(b)) continue;
+                state = step(state, b);
+                for (int p : outputs[state]) {
+                    if (!found[p]) {
+                        found[p] = true;
+                        remaining--;
+                    }
+                }
+            }
+        }
+
+        public boolean found(int index) { return found[index]; }
+        public boolean allFound() { return remaining == 0; }
+    }
+
+    private int step(int state, byte b) {
+        while (true) {
+            int next = find(keys[state], targets[state], b);
+            if (next >= 0) return next;
+            if (state == 0) return 0;
+            state = fail[state];
+        }
+    }
+
+    private static int find(byte[] keys, int[] targets, byte b) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == b) return targets[i];
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+
+    private static byte[] append(byte[] a, byte b) {
+        byte[] r = Arrays.copyOf(a, a.length + 1);
+        r[a.length] = b;
+        return r;
+    }
+
+    private static int[] append(int[] a, int v) {
+        int[] r = Arrays.copyOf(a, a.length + 1);
+        r[a.length] = v;
+        return r;
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        if (b.length == 0) return a;
+        int[] r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    private final class Subscriber implements HttpResponse.BodySubscriber<MatchedBody> {
+        private final Scan scan;
+        private final JsonPaths.Scan jsonScan;
+        private final Buffer raw;     //null when the body is not kept
+        private final CompletableFuture<MatchedBody> result = new CompletableFuture<>();
+        private int length;
+
+        Subscriber(Scan scan, JsonPaths.Scan jsonScan, Buffer raw) {
+            this.scan = scan;
+            this.jsonScan = jsonScan;
+            this.raw = raw;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            for (ByteBuffer buf : items) {
+                scan.feed(buf.duplicate());
+                if (jsonScan != null) jsonScan.feed(buf.duplicate());
+                length += buf.remaining();
+                if (raw != null) raw.write(buf);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (jsonScan != null) jsonScan.finish();
+            result.complete(new MatchedBody(BodyMatcher.this, scan, jsonScan,
+                raw != null ? raw.bytes() : null, length));
+        }
+
+        @Override
+        public CompletionStage<MatchedBody> getBody() {
+            return result;
+        }
+    }
+
+    //The body as it arrives. MatchedBody gets the backing array itself, not the copy toByteArray()
+    //would make of every response
+    private static final class Buffer extends ByteArrayOutputStream {
+        void write(ByteBuffer b) {
+            int n = b.remaining();
+            if (count + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + n));
+            }
+            b.get(buf, count, n);
+            count += n;
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
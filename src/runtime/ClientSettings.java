@@ -0,0 +1,45 @@
+package runtime;
+
+import java.util.Objects;
+
+//The HttpClient settings a config block can change: http_version, max_connections, connect_timeout
+//and executor. Equal settings share one client (Http.client), and with it its connection pool.
+public final class ClientSettings {
+    public static final ClientSettings DEFAULT = new ClientSettings(false, 0, 5_000, false);
+
+    private final boolean http2;
+    private final int maxConnections;        //0 = no limit
+    private final long connectTimeoutMillis;
+    private final boolean virtualThreads;
+
+    public ClientSettings(boolean http2, int maxConnections, long connectTimeoutMillis, boolean virtualThreads) {
+        this.http2 = http2;
+        this.maxConnections = maxConnections;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean isHttp2() { return http2; }
+    public int getMaxConnections() { return maxConnections; }
+    public long getConnectTimeoutMillis() { return connectTimeoutMillis; }
+    public boolean isVirtualThreads() { return virtualThreads; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ClientSettings)) return false;
+        ClientSettings s = (ClientSettings) o;
+        return http2 == s.http2 && maxConnections == s.maxConnections
+            && connectTimeoutMillis == s.connectTimeoutMillis && virtualThreads == s.virtualThreads;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(http2, maxConnections, connectTimeoutMillis, virtualThreads);
+    }
+
+    @Override
+    public String toString() {
+        return (http2 ? "h2" : "http1.1") + ", max_connections=" + maxConnections
+            + ", connect_timeout=" + connectTimeoutMillis + "ms" + (virtualThreads ? ", virtual threads" : "");
+    }
+}
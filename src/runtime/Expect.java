@@ -0,0 +1,64 @@
+package runtime;
+
+import java.util.Objects;
+
+//The expect statements. Failures are AssertionErrors in the format of
+//org.junit.jupiter.api.Assertions, so generated tests do not need JUnit's assertions.
+public final class Expect {
+    private Expect() {}
+
+    public static void status(Response response, int expected) {
+        equals(expected, response.statusCode());
+    }
+
+    public static void header(Response response, String name, String expected) {
+        equals(expected, response.header(name));
+    }
+
+    public static void headerContains(Response response, String name, String text) {
+        isTrue(response.header(name).contains(text), "header " + name + " does not contain " + text);
+    }
+
+    //patternIndex is the text's pattern in the request's BodyMatcher
+    public static void bodyContains(Response response, int patternIndex) {
+        MatchedBody body = response.body();
+        if (!body.contains(patternIndex)) {
+            isTrue(false, "body does not contain " + body.pattern(patternIndex));
+        }
+    }
+
+    public static void latencyBelow(Response response, long millis) {
+        long nanos = response.latencyNanos();
+        if (nanos >= millis * 1_000_000L) {
+            isTrue(false, "latency " + nanos / 1_000_000 + "ms, expected < " + millis + "ms");
+        }
+    }
+
+    public static void ttfbBelow(Response response, long millis) {
+        long nanos = response.ttfbNanos();
+        if (nanos >= millis * 1_000_000L) {
+            isTrue(false, "ttfb " + nanos / 1_000_000 + "ms, expected < " + millis + "ms");
+        }
+    }
+
+    //pathIndex is the path in the request's BodyMatcher; expected as in MatchedBody.expectJson
+    public static void json(Response response, int pathIndex, String expected, boolean string) {
+        response.body().expectJson(pathIndex, expected, string);
+    }
+
+    public static void jsonSize(Response response, int pathIndex, int expected) {
+        response.body().expectJsonSize(pathIndex, expected);
+    }
+
+    private static void equals(Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError("expected: <" + expected + "> but was: <" + actual + ">");
+        }
+    }
+
+    private static void isTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message + " ==> expected: <true> but was: <false>");
+        }
+    }
+}
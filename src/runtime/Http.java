@@ -0,0 +1,257 @@
+package runtime;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+//Sending for generated tests and the interpreter. There is one HttpClient per JVM for each set of
+//ClientSettings, so every suite with the same config (generated classes, shards, --in-memory runs,
+//the interpreter) shares its connection pool, and the send path is the same well-warmed code for
+//all of them.
+public final class Http {
+    private static final Map<ClientSettings, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+    //requests in flight per client with max_connections; HttpClient itself has no such limit
+    private static final Map<HttpClient, Limit> LIMITS = new ConcurrentHashMap<>();
+
+    private Http() {}
+
+    public static HttpClient client() {
+        return client(ClientSettings.DEFAULT);
+    }
+
+    public static HttpClient client(ClientSettings settings) {
+        return CLIENTS.computeIfAbsent(settings, Http::newClient);
+    }
+
+    //h2 is negotiated with ALPN over https and with an h2c upgrade over http; a server that does not
+    //take it up answers in HTTP/1.1
+    private static HttpClient newClient(ClientSettings settings) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMillis()));
+        if (settings.isVirtualThreads()) {
+            ExecutorService executor = Threads.newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                builder.executor(executor);
+            }
+        }
+        HttpClient client = builder.build();
+        if (settings.getMaxConnections() > 0) {
+            LIMITS.put(client, new Limit(settings.getMaxConnections()));
+        }
+        return client;
+    }
+
+    public static Response send(RequestSpec spec) throws IOException, InterruptedException {
+        return send(client(), spec, BodyMatcher.NONE, true);
+    }
+
+    //matcher holds the body-contains patterns and json paths checked against the response
+    public static Response send(RequestSpec spec, BodyMatcher matcher) throws IOException, InterruptedException {
+        return send(client(), spec, matcher, true);
+    }
+
+    public static Response send(HttpClient client, RequestSpec spec) throws IOException, InterruptedException {
+        return send(client, spec, BodyMatcher.NONE, true);
+    }
+
+    public static Response send(HttpClient client, RequestSpec spec, BodyMatcher matcher)
+            throws IOException, InterruptedException {
+        return send(client, spec, matcher, true);
+    }
+
+    //log prints the request and the response like the generated tests always did
+    public static Response send(HttpClient client, RequestSpec spec, BodyMatcher matcher, boolean log)
+            throws IOException, InterruptedException {
+        if (log) logRequest(spec);
+        Limit limit = LIMITS.get(client);
+        long start = System.nanoTime();
+        long[] ttfbNanos = new long[1];
+        HttpResponse<MatchedBody> http;
+        if (limit == null) {
+            http = client.send(spec.request(), handler(matcher, log, start, ttfbNanos));
+        } else {
+            limit.await();
+            try {
+                http = client.send(spec.request(), handler(matcher, log, start, ttfbNanos));
+            } finally {
+                limit.release();
+            }
+        }
+        Response response = new Response(http, System.nanoTime() - start, ttfbNanos[0]);
+        if (log) logResponse(response);
+        return response;
+    }
+
+    //for load runs: nothing is printed, the body is not kept and the caller never blocks. With
+    //max_connections a request that finds no free connection is queued and sent when one is
+    //released; the wait counts towards the request's latency
+    public static CompletableFuture<Response> sendAsync(HttpClient client, RequestSpec spec, BodyMatcher matcher) {
+        return sendAsync(client, spec, matcher, false);
+    }
+
+    //keepBody buffers the body so it can be logged
+    public static CompletableFuture<Response> sendAsync(HttpClient client, RequestSpec spec, BodyMatcher matcher,
+                                                        boolean keepBody) {
+        Limit limit = LIMITS.get(client);
+        long start = System.nanoTime();
+        long[] ttfbNanos = new long[1];
+        CompletableFuture<HttpResponse<MatchedBody>> sent;
+        if (limit == null) {
+            sent = client.sendAsync(spec.request(), handler(matcher, keepBody, start, ttfbNanos));
+        } else {
+            sent = limit.acquire().thenCompose(v -> {
+                CompletableFuture<HttpResponse<MatchedBody>> http;
+                try {
+                    http = client.sendAsync(spec.request(), handler(matcher, keepBody, start, ttfbNanos));
+                } catch (RuntimeException e) {
+                    limit.release();
+                    throw e;
+                }
+                return http.whenComplete((response, failure) -> limit.release());
+            });
+        }
+        return sent.thenApply(http -> new Response(http, System.nanoTime() - start, ttfbNanos[0]));
+    }
+
+    //a parallel block: every request is sent before any response is waited for, then the exchanges are
+    //logged in block order. The first failure is thrown once all requests are done
+    public static Response[] sendAll(HttpClient client, RequestSpec[] specs, BodyMatcher[] matchers, boolean log)
+            throws IOException, InterruptedException {
+        if (log) {
+            for (RequestSpec spec : specs) logRequest(spec);
+        }
+        CompletableFuture<Response[]> all = sendAllAsync(client, specs, matchers, log);
+        Response[] responses;
+        try {
+            responses = all.get();
+        } catch (InterruptedException e) {
+            all.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        }
+        if (log) {
+            for (Response response : responses) logResponse(response);
+        }
+        return responses;
+    }
+
+    public static Response[] sendAll(HttpClient client, RequestSpec[] specs, BodyMatcher[] matchers)
+            throws IOException, InterruptedException {
+        return sendAll(client, specs, matchers, true);
+    }
+
+    //completes when every response is in, or exceptionally with the first failure once all are done
+    public static CompletableFuture<Response[]> sendAllAsync(HttpClient client, RequestSpec[] specs, BodyMatcher[] matchers) {
+        return sendAllAsync(client, specs, matchers, false);
+    }
+
+    public static CompletableFuture<Response[]> sendAllAsync(HttpClient client, RequestSpec[] specs, BodyMatcher[] matchers,
+                                                             boolean keepBody) {
+        List<CompletableFuture<Response>> sent = new ArrayList<>(specs.length);
+        for (int i = 0; i < specs.length; i++) {
+            sent.add(sendAsync(client, specs[i], matchers[i], keepBody));
+        }
+        return CompletableFuture.allOf(sent.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            Response[] responses = new Response[sent.size()];
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = sent.get(i).join();
+            }
+            return responses;
+        });
+    }
+
+    //records the time to first byte (response headers received) relative to start
+    private static HttpResponse.BodyHandler<MatchedBody> handler(BodyMatcher matcher, boolean keepBody, long start,
+                                                                 long[] ttfbNanos) {
+        return info -> {
+            ttfbNanos[0] = System.nanoTime() - start;
+            return matcher.subscriber(keepBody);
+        };
+    }
+
+    //Permits for max_connections. A permit that is not free is handed out by release() to the
+    //oldest waiting future, so asynchronous senders queue instead of blocking a thread
+    private static final class Limit {
+        private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int free;
+
+        Limit(int permits) {
+            free = permits;
+        }
+
+        CompletableFuture<Void> acquire() {
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            synchronized (this) {
+                if (free == 0) {
+                    waiting.add(permit);
+                    return permit;
+                }
+                free--;
+            }
+            permit.complete(null);
+            return permit;
+        }
+
+        //for the blocking send; a wait that is interrupted gives up its place or its permit
+        void await() throws InterruptedException {
+            CompletableFuture<Void> permit = acquire();
+            try {
+                permit.get();
+            } catch (InterruptedException e) {
+                if (!permit.cancel(false)) {
+                    release();
+                }
+                throw e;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        //completed outside the lock, as it may start the waiting send on this thread
+        void release() {
+            while (true) {
+                CompletableFuture<Void> next;
+                synchronized (this) {
+                    next = waiting.poll();
+                    if (next == null) {
+                        free++;
+                        return;
+                    }
+                }
+                //false when the waiter was cancelled; the permit goes to the next one
+                if (next.complete(null)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void logRequest(RequestSpec spec) {
+        System.out.println("-> " + spec.getMethod() + " " + spec.getUrl());
+        if (spec.getBody() != null) {
+            System.out.println("    payload: " + spec.getBody());
+        }
+    }
+
+    private static void logResponse(Response response) {
+        System.out.println("<- status: " + response.statusCode());
+        System.out.println(response.body());
+        System.out.println();
+    }
+}
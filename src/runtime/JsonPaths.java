@@ -0,0 +1,466 @@
+package runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+//JSON paths such as $.token, $.user.id, $.items[0] or $['a key'], compiled together into one trie
+//and looked up in a single streaming pass over the response bytes as they arrive. No tree is
+//built: the scanner only tracks which trie node each open object or array is at, decodes keys
+//only inside objects that lead somewhere, keeps the text of the values asked for, and stops
+//reading once every path has been found. Objects and arrays are not copied: they are found as a
+//range of the body, which whoever buffers the body cuts out (MatchedBody does).
+public final class JsonPaths {
+    private final String[] paths;
+    //trie over path segments; node 0 is $, the whole document
+    private final String[][] keys;
+    private final int[][] keyTargets;
+    private final int[][] indexes;
+    private final int[][] indexTargets;
+    private final int[][] ends;         //per node: the paths that end there
+
+    public JsonPaths(String... paths) {
+        this.paths = paths.clone();
+        List<List<String>> keyList = new ArrayList<>();
+        List<List<Integer>> keyTargetList = new ArrayList<>();
+        List<List<Integer>> indexList = new ArrayList<>();
+        List<List<Integer>> indexTargetList = new ArrayList<>();
+        List<List<Integer>> endList = new ArrayList<>();
+        addNode(keyList, keyTargetList, indexList, indexTargetList, endList);
+
+        for (int p = 0; p < paths.length; p++) {
+            int node = 0;
+            for (Object segment : parse(paths[p])) {
+                List<?> labels = segment instanceof String ? keyList.get(node) : indexList.get(node);
+                List<Integer> targets = segment instanceof String ? keyTargetList.get(node) : indexTargetList.get(node);
+                int at = labels.indexOf(segment);
+                if (at >= 0) {
+                    node = targets.get(at);
+                } else {
+                    int child = addNode(keyList, keyTargetList, indexList, indexTargetList, endList);
+                    if (segment instanceof String) {
+                        keyList.get(node).add((String) segment);
+                    } else {
+                        indexList.get(node).add((Integer) segment);
+                    }
+                    targets.add(child);
+                    node = child;
+                }
+            }
+            endList.get(node).add(p);
+        }
+
+        int n = keyList.size();
+        keys = new String[n][];
+        keyTargets = new int[n][];
+        indexes = new int[n][];
+        indexTargets = new int[n][];
+        ends = new int[n][];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyList.get(i).toArray(new String[0]);
+            keyTargets[i] = toArray(keyTargetList.get(i));
+            indexes[i] = toArray(indexList.get(i));
+            indexTargets[i] = toArray(indexTargetList.get(i));
+            ends[i] = toArray(endList.get(i));
+        }
+    }
+
+    //Segments of a path: a String for each key, an Integer for each array index.
+    //Throws IllegalArgumentException for anything but $ followed by .key, ['key'] and [n] parts
+    public static List<Object> parse(String path) {
+        if (!path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path " + path + " must start with $");
+        }
+        List<Object> segments = new ArrayList<>();
+        int n = path.length();
+        int i = 1;
+        while (i < n) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < n && path.charAt(end) != '.' && path.charAt(end) != '[') end++;
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("JSON path " + path + " has an empty key");
+                }
+                segments.add(path.substring(i + 1, end));
+                i = end;
+            } else if (c == '[' && i + 1 < n && (path.charAt(i + 1) == '\'' || path.charAt(i + 1) == '"')) {
+                char quote = path.charAt(i + 1);
+                int close = path.indexOf(quote, i + 2);
+                if (close < 0 || close + 1 >= n || path.charAt(close + 1) != ']') {
+                    throw new IllegalArgumentException("JSON path " + path + " has an unclosed [" + quote);
+                }
+                segments.add(path.substring(i + 2, close));
+                i = close + 2;
+            } else if (c == '[') {
+                int close = path.indexOf(']', i);
+                String digits = close < 0 ? "" : path.substring(i + 1, close);
+                if (!digits.matches("[0-9]{1,9}")) {
+                    throw new IllegalArgumentException("JSON path " + path + " needs an array index or a quoted key in []");
+                }
+                segments.add(Integer.valueOf(digits));
+                i = close + 1;
+            } else {
+                throw new IllegalArgumentException("JSON path " + path + ": unexpected '" + c + "' at " + i);
+            }
+        }
+        return segments;
+    }
+
+    public int size() { return paths.length; }
+    public String path(int index) { return paths[index]; }
+
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    private boolean hasChildren(int node) {
+        return keys[node].length > 0 || indexes[node].length > 0;
+    }
+
+    private int child(int node, String key) {
+        String[] k = keys[node];
+        for (int i = 0; i < k.length; i++) {
+            if (k[i].equals(key)) return keyTargets[node][i];
+        }
+        return -1;
+    }
+
+    private int child(int node, int index) {
+        int[] k = indexes[node];
+        for (int i = 0; i < k.length; i++) {
+            if (k[i] == index) return indexTargets[node][i];
+        }
+        return -1;
+    }
+
+    private static final int VALUE = 0;        //a value may start (or ] of an empty array)
+    private static final int AFTER_VALUE = 1;  //, or the end of the container
+    private static final int KEY = 2;          //a key may start (or } of an empty object)
+    private static final int COLON = 3;
+    private static final int STRING = 4;
+    private static final int ESCAPE = 5;
+    private static final int UNICODE = 6;
+    private static final int LITERAL = 7;      //number, true, false, null
+
+    //Lookup state for one response body; fed in chunks, in order
+    public final class Scan {
+        private final JsonValue[] values = new JsonValue[paths.length];
+        private int remaining = paths.length;
+        private boolean done = paths.length == 0;
+
+        private int state = VALUE;
+        private int depth = -1;                 //innermost open object or array
+        private int[] containerNode = new int[8];     //-1 when nothing below it is asked for
+        private int[] capturedNode = new int[8];      //the container's own node if paths end there, else -1
+        private int[] start = new int[8];            //offset of the container's [ or {
+        private int[] count = new int[8];             //members so far
+        private boolean[] isObject = new boolean[8];
+        private int keyNode = -1;               //node of the value after the current key
+
+        private boolean inKey;
+        private boolean keeping;                //the current string or literal is decoded into text
+        private int scalarNode;
+        private byte[] text = new byte[64];
+        private int textLength;
+        private int unicode;
+        private int unicodeDigits;
+        private int highSurrogate;
+
+        private int position;                   //offset in the body of the byte being read
+
+        //the bytes of the outermost object or array a path ends at, from its [ or { on, so its raw
+        //JSON can be cut out without keeping the whole body
+        private byte[] copy;
+        private int copyLength;
+        private int copyFrom;                   //offset in the body of copy[0]
+        private int copyDepth = -1;             //depth of that container, -1 when not copying
+
+        private Scan() {}
+
+        public boolean isDone() { return done; }
+
+        //null until the path is found; stays null if the body does not have it
+        public JsonValue value(int index) { return values[index]; }
+
+        public void feed(ByteBuffer buf) {
+            int pos = buf.position();
+            int limit = buf.limit();
+            while (!done && pos < limit) {
+                byte b = buf.get(pos);
+                if (state == LITERAL && !isLiteralByte(b)) {
+                    endLiteral();   //the byte after a literal is read again as structure
+                    continue;
+                }
+                if (copyDepth >= 0) appendCopy(b);
+                step(b);
+                pos++;
+                position++;
+            }
+            buf.position(pos);
+        }
+
+        //The body has ended: a document that is a bare number or literal ends here
+        public void finish() {
+            if (!done && state == LITERAL) {
+                endLiteral();
+            }
+            done = true;
+        }
+
+        private void step(byte b) {
+            switch (state) {
+                case VALUE:
+                    if (isWhitespace(b)) return;
+                    if (b == ']' && depth >= 0 && !isObject[depth]) {
+                        endContainer();
+                    } else {
+                        startValue(b);
+                    }
+                    return;
+                case AFTER_VALUE:
+                    if (isWhitespace(b)) return;
+                    if (b == ',') {
+                        state = isObject[depth] ? KEY : VALUE;
+                    } else if (b == (isObject[depth] ? '}' : ']')) {
+                        endContainer();
+                    } else {
+                        invalid();
+                    }
+                    return;
+                case KEY:
+                    if (isWhitespace(b)) return;
+                    if (b == '"') {
+                        startString(true, containerNode[depth] >= 0, -1);
+                    } else if (b == '}') {
+                        endContainer();
+                    } else {
+                        invalid();
+                    }
+                    return;
+                case COLON:
+                    if (isWhitespace(b)) return;
+                    if (b == ':') state = VALUE; else invalid();
+                    return;
+                case STRING:
+                    if (b == '"') {
+                        endString();
+                    } else if (b == '\\') {
+                        state = ESCAPE;
+                    } else if (keeping) {
+                        appendText(b);
+                    }
+                    return;
+                case ESCAPE:
+                    state = STRING;
+                    switch (b) {
+                        case 'u': state = UNICODE; unicode = 0; unicodeDigits = 0; return;
+                        case 'b': b = '\b'; break;
+                        case 'f': b = '\f'; break;
+                        case 'n': b = '\n'; break;
+                        case 'r': b = '\r'; break;
+                        case 't': b = '\t'; break;
+                        default: break;   //  \"  \\  \/  stand for themselves
+                    }
+                    if (keeping) appendText(b);
+                    return;
+                case UNICODE:
+                    int digit = Character.digit(b, 16);
+                    if (digit < 0) {
+                        invalid();
+                        return;
+                    }
+                    unicode = unicode << 4 | digit;
+                    if (++unicodeDigits == 4) {
+                        state = STRING;
+                        if (keeping) appendUtf16(unicode);
+                    }
+                    return;
+                case LITERAL:
+                    if (keeping) appendText(b);
+                    return;
+                default:
+                    invalid();
+            }
+        }
+
+        //the trie node of a value about to start, -1 if no path goes through it
+        private int nodeOfValue() {
+            if (depth < 0) return 0;
+            if (isObject[depth]) return keyNode;
+            int index = count[depth]++;
+            return containerNode[depth] >= 0 ? child(containerNode[depth], index) : -1;
+        }
+
+        private void startValue(byte b) {
+            int node = nodeOfValue();
+            boolean wanted = node >= 0 && ends[node].length > 0;
+            if (b == '{' || b == '[') {
+                push(node, b == '{', wanted);
+            } else if (b == '"') {
+                startString(false, wanted, node);
+            } else if (b == '-' || (b >= '0' && b <= '9') || b == 't' || b == 'f' || b == 'n') {
+                state = LITERAL;
+                keeping = wanted;
+                scalarNode = node;
+                textLength = 0;
+                if (keeping) appendText(b);
+            } else {
+                invalid();
+            }
+        }
+
+        private void push(int node, boolean object, boolean wanted) {
+            depth++;
+            if (depth == containerNode.length) {
+                int n = depth * 2;
+                containerNode = Arrays.copyOf(containerNode, n);
+                capturedNode = Arrays.copyOf(capturedNode, n);
+                start = Arrays.copyOf(start, n);
+                count = Arrays.copyOf(count, n);
+                isObject = Arrays.copyOf(isObject, n);
+            }
+            containerNode[depth] = node >= 0 && hasChildren(node) ? node : -1;
+            capturedNode[depth] = wanted ? node : -1;
+            count[depth] = 0;
+            isObject[depth] = object;
+            start[depth] = position;
+            if (wanted && copyDepth < 0) {
+                copyDepth = depth;
+                copyFrom = position;
+                copyLength = 0;
+                appendCopy(object ? (byte) '{' : (byte) '[');
+            }
+            state = object ? KEY : VALUE;
+        }
+
+        private void endContainer() {
+            int node = capturedNode[depth];
+            if (node >= 0) {
+                int offset = start[depth] - copyFrom;
+                String json = new String(copy, offset, position + 1 - start[depth], StandardCharsets.UTF_8);
+                found(node, new JsonValue(isObject[depth] ? JsonValue.Type.OBJECT : JsonValue.Type.ARRAY,
+                    json, count[depth], start[depth], position + 1));
+            }
+            if (depth == copyDepth) {
+                copyDepth = -1;
+            }
+            depth--;
+            afterValue();
+        }
+
+        private void startString(boolean key, boolean keep, int node) {
+            state = STRING;
+            inKey = key;
+            keeping = keep;
+            scalarNode = node;
+            textLength = 0;
+            highSurrogate = 0;
+        }
+
+        private void endString() {
+            if (inKey) {
+                count[depth]++;
+                keyNode = keeping
+                    ? child(containerNode[depth], new String(text, 0, textLength, StandardCharsets.UTF_8)) : -1;
+                state = COLON;
+                return;
+            }
+            if (keeping) {
+                found(scalarNode, new JsonValue(JsonValue.Type.STRING,
+                    new String(text, 0, textLength, StandardCharsets.UTF_8), -1));
+            }
+            afterValue();
+        }
+
+        private void endLiteral() {
+            if (keeping) {
+                String literal = new String(text, 0, textLength, StandardCharsets.US_ASCII);
+                JsonValue.Type type = literal.equals("true") || literal.equals("false") ? JsonValue.Type.BOOLEAN
+                    : literal.equals("null") ? JsonValue.Type.NULL : JsonValue.Type.NUMBER;
+                found(scalarNode, new JsonValue(type, literal, -1));
+            }
+            afterValue();
+        }
+
+        private void afterValue() {
+            if (depth < 0) {
+                done = true;   //the whole document has been read
+            } else {
+                state = AFTER_VALUE;
+            }
+        }
+
+        private void found(int node, JsonValue value) {
+            for (int p : ends[node]) {
+                if (values[p] == null) {
+                    values[p] = value;
+                    remaining--;
+                }
+            }
+            if (remaining == 0) done = true;
+        }
+
+        //not JSON after all: stop, whatever was not found stays missing
+        private void invalid() {
+            done = true;
+        }
+
+        private void appendCopy(byte b) {
+            if (copy == null) {
+                copy = new byte[256];
+            } else if (copyLength == copy.length) {
+                copy = Arrays.copyOf(copy, copyLength * 2);
+            }
+            copy[copyLength++] = b;
+        }
+
+        private void appendText(byte b) {
+            if (textLength == text.length) text = Arrays.copyOf(text, textLength * 2);
+            text[textLength++] = b;
+        }
+
+        //a \\uXXXX escape, kept as UTF-8; a surrogate pair becomes one 4-byte sequence
+        private void appendUtf16(int unit) {
+            if (Character.isHighSurrogate((char) unit)) {
+                highSurrogate = unit;
+                return;
+            }
+            int codePoint = unit;
+            if (Character.isLowSurrogate((char) unit) && highSurrogate != 0) {
+                codePoint = Character.toCodePoint((char) highSurrogate, (char) unit);
+            }
+            highSurrogate = 0;
+            for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                appendText(b);
+            }
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isLiteralByte(byte b) {
+        return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || b == '-' || b == '+' || b == '.' || b == 'E';
+    }
+
+    private static int addNode(List<List<String>> keys, List<List<Integer>> keyTargets,
+                               List<List<Integer>> indexes, List<List<Integer>> indexTargets,
+                               List<List<Integer>> ends) {
+        keys.add(new ArrayList<>());
+        keyTargets.add(new ArrayList<>());
+        indexes.add(new ArrayList<>());
+        indexTargets.add(new ArrayList<>());
+        ends.add(new ArrayList<>());
+        return keys.size() - 1;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] a = new int[list.size()];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = list.get(i);
+        }
+        return a;
+    }
+}
@@ -0,0 +1,61 @@
+package runtime;
+
+import java.math.BigDecimal;
+
+//A value found by JsonPaths: the decoded text of a string, the literal of a number, true, false or
+//null, or an object or array with its raw JSON, its number of members and where it is in the body.
+public final class JsonValue {
+    public enum Type { STRING, NUMBER, BOOLEAN, NULL, OBJECT, ARRAY }
+
+    private final Type type;
+    private final String text;
+    private final int size;
+    private final int start;   //byte range in the body of an object or array, else -1
+    private final int end;
+
+    JsonValue(Type type, String text, int size) {
+        this(type, text, size, -1, -1);
+    }
+
+    JsonValue(Type type, String text, int size, int start, int end) {
+        this.type = type;
+        this.text = text;
+        this.size = size;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Type getType() { return type; }
+
+    public String text() { return text; }
+    public int start() { return start; }
+    public int end() { return end; }
+
+    //members of an object or elements of an array; -1 for the other types
+    public int size() { return size; }
+
+    public boolean isContainer() {
+        return type == Type.OBJECT || type == Type.ARRAY;
+    }
+
+    //expect json "$.x" = ...: a string compares its decoded text, a number its value (so 42, 42.0
+    //and 4.2e1 are equal), true, false and null their literal
+    public boolean matches(String expected, boolean string) {
+        if (string || type == Type.STRING) {
+            return string && type == Type.STRING && text.equals(expected);
+        }
+        if (type == Type.NUMBER) {
+            try {
+                return new BigDecimal(text).compareTo(new BigDecimal(expected)) == 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return !isContainer() && text.equals(expected);
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.STRING ? "\"" + text + "\"" : text;
+    }
+}
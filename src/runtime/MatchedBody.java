@@ -0,0 +1,90 @@
+package runtime;
+
+import java.nio.charset.StandardCharsets;
+
+//Response body produced by BodyMatcher: which patterns were found in it, the values at its JSON
+//paths and, when it is logged, the bytes (decoded to text when first asked for)
+public final class MatchedBody {
+    private final BodyMatcher matcher;
+    private final BodyMatcher.Scan scan;
+    private final JsonPaths.Scan jsonScan;
+    private final byte[] bytes;    //null when the body was not kept; may be longer than the body
+    private final int length;
+    private String text;   //decoded on first use
+
+    MatchedBody(BodyMatcher matcher, BodyMatcher.Scan scan, JsonPaths.Scan jsonScan, byte[] bytes, int length) {
+        this.matcher = matcher;
+        this.scan = scan;
+        this.jsonScan = jsonScan;
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    public boolean contains(int patternIndex) {
+        return scan.found(patternIndex);
+    }
+
+    public String pattern(int patternIndex) {
+        return matcher.pattern(patternIndex);
+    }
+
+    //null when the body has nothing at the path (or is not JSON)
+    public JsonValue json(int pathIndex) {
+        return jsonScan == null ? null : jsonScan.value(pathIndex);
+    }
+
+    //The text of the value at a path, for let ... = json "$.path";
+    public String capture(int pathIndex) {
+        JsonValue value = json(pathIndex);
+        if (value == null) {
+            throw new AssertionError("json path " + matcher.json().path(pathIndex) + " not found in response");
+        }
+        return value.text();
+    }
+
+    //expect json "$.path" = value; expected is the text of a string (string = true) or a literal
+    public void expectJson(int pathIndex, String expected, boolean string) {
+        JsonValue value = json(pathIndex);
+        if (value == null || !value.matches(expected, string)) {
+            fail(pathIndex, string ? "\"" + expected + "\"" : expected, value);
+        }
+    }
+
+    //expect json "$.path" size = n; for arrays and objects
+    public void expectJsonSize(int pathIndex, int expected) {
+        JsonValue value = json(pathIndex);
+        if (value == null || !value.isContainer()) {
+            fail(pathIndex, "an array or object of size " + expected, value);
+        } else if (value.size() != expected) {
+            throw new AssertionError("json " + matcher.json().path(pathIndex) + " size ==> expected: <"
+                + expected + "> but was: <" + value.size() + ">");
+        }
+    }
+
+    //same format as org.junit.jupiter.api.Assertions
+    private void fail(int pathIndex, String expected, JsonValue actual) {
+        throw new AssertionError("json " + matcher.json().path(pathIndex) + " ==> expected: <" + expected
+            + "> but was: <" + (actual != null ? actual : "nothing at that path") + ">");
+    }
+
+    public boolean isKept() {
+        return bytes != null;
+    }
+
+    //only for a kept body: the matching itself never needs the text
+    public String text() {
+        if (bytes == null) {
+            throw new IllegalStateException("the response body was not kept");
+        }
+        String t = text;
+        if (t == null) {
+            t = text = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return t;
+    }
+
+    @Override
+    public String toString() {
+        return bytes != null ? text() : "(body not kept, " + length + " bytes)";
+    }
+}
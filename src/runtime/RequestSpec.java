@@ -0,0 +1,90 @@
+package runtime;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.*;
+
+//One request as generated tests and the interpreter describe it: method, url, body (null for
+//none) and the headers in the order they are sent. The HttpRequest is built the first time the
+//spec is sent and reused after that; HttpRequest is immutable, so one spec can be sent from any
+//number of threads.
+public final class RequestSpec {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String method;
+    private final String url;
+    private final String body;
+    private final Map<String, String> headers;
+    private volatile HttpRequest request;
+
+    private RequestSpec(String method, String url, String body, Map<String, String> headers) {
+        this.method = method;
+        this.url = url;
+        this.body = body;
+        this.headers = Collections.unmodifiableMap(headers);
+    }
+
+    //defaults (the config headers) first, then Accept, then the request's own headers as
+    //name, value pairs; a later header replaces an earlier one with the same name in any case
+    public static RequestSpec of(String method, String url, String body, Map<String, String> defaults,
+                                 String... headers) {
+        Map<String, String> all = new LinkedHashMap<>();
+        defaults.forEach((name, value) -> putHeader(all, name, value));
+        putHeader(all, "Accept", "application/json");
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            putHeader(all, headers[i], headers[i + 1]);
+        }
+        return new RequestSpec(method, url, body, all);
+    }
+
+    //headers exactly as given, nothing added
+    public static RequestSpec of(String method, String url, String body, Map<String, String> headers) {
+        return new RequestSpec(method, url, body, new LinkedHashMap<>(headers));
+    }
+
+    //name, value pairs as an unmodifiable map in that order, for header sets merged ahead of time
+    public static Map<String, String> headers(String... namesAndValues) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            putHeader(headers, namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(headers);
+    }
+
+    //HTTP field names are case-insensitive: a header that is already there under any case gets the
+    //new value in its place, so it is sent once and keeps its position
+    public static <V> void putHeader(Map<String, V> headers, String name, V value) {
+        for (String existing : headers.keySet()) {
+            if (existing.equalsIgnoreCase(name)) {
+                headers.put(existing, value);
+                return;
+            }
+        }
+        headers.put(name, value);
+    }
+
+    public String getMethod() { return method; }
+    public String getUrl() { return url; }
+    public String getBody() { return body; }
+    public Map<String, String> getHeaders() { return headers; }
+
+    //a race only builds the same immutable request twice
+    public HttpRequest request() {
+        HttpRequest r = request;
+        if (r == null) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .method(method, body != null ? HttpRequest.BodyPublishers.ofString(body)
+                    : HttpRequest.BodyPublishers.noBody());
+            headers.forEach(builder::header);
+            r = request = builder.build();
+        }
+        return r;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + url;
+    }
+}
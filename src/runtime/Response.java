@@ -0,0 +1,30 @@
+package runtime;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+
+//A response together with how long it took: latency until the whole body was read, ttfb until
+//the response headers arrived (both System.nanoTime)
+public final class Response {
+    private final HttpResponse<MatchedBody> http;
+    private final long latencyNanos;
+    private final long ttfbNanos;
+
+    public Response(HttpResponse<MatchedBody> http, long latencyNanos, long ttfbNanos) {
+        this.http = http;
+        this.latencyNanos = latencyNanos;
+        this.ttfbNanos = ttfbNanos;
+    }
+
+    public int statusCode() { return http.statusCode(); }
+    public HttpHeaders headers() { return http.headers(); }
+    public MatchedBody body() { return http.body(); }
+    public long latencyNanos() { return latencyNanos; }
+    public long ttfbNanos() { return ttfbNanos; }
+    public HttpResponse<MatchedBody> http() { return http; }
+
+    //first value of the header, "" if there is none
+    public String header(String name) {
+        return http.headers().firstValue(name).orElse("");
+    }
+}
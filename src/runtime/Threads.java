@@ -0,0 +1,44 @@
+package runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//Virtual threads where the JVM has them (JDK 21+). They are looked up reflectively, so the runtime
+//still compiles and runs on JDK 17, where callers fall back to platform threads.
+public final class Threads {
+    private static final Method NEW_VIRTUAL_EXECUTOR = lookup();
+
+    private Threads() {}
+
+    private static Method lookup() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static boolean hasVirtualThreads() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    //with virtual set and on JDK 21+, a new virtual thread per task, so blocking tasks cost no
+    //platform thread while they wait; otherwise a pool of platformThreads threads
+    public static ExecutorService newExecutor(boolean virtual, int platformThreads) {
+        ExecutorService executor = virtual ? newVirtualThreadPerTaskExecutor() : null;
+        return executor != null ? executor : Executors.newFixedThreadPool(platformThreads);
+    }
+
+    //a new thread per task, each one virtual; null before JDK 21
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+}
@@ -6,28 +6,47 @@
 /** CUP generated class containing symbol constants. */
 public class sym {
   /* terminals */
-  public static final int POST = 7;
-  public static final int SEMICOLON = 15;
-  public static final int RBRACE = 14;
-  public static final int TEST = 3;
-  public static final int STATUS = 16;
-  public static final int EXPECT = 4;
-  public static final int IDENTIFIER = 11;
-  public static final int LBRACE = 13;
-  public static final int PUT = 8;
-  public static final int CONTAINS = 20;
-  public static final int EQUALS = 17;
-  public static final int STRING = 12;
+  public static final int PARALLEL = 32;
+  public static final int EQUALS = 22;
+  public static final int PUT = 13;
+  public static final int LOAD = 34;
+  public static final int JSON = 30;
+  public static final int TIME = 39;
+  public static final int USERS = 35;
+  public static final int STATUS = 21;
+  public static final int TTFB = 27;
+  public static final int LATENCY = 26;
+  public static final int LESS = 28;
+  public static final int DELETE = 14;
+  public static final int WARMUP = 37;
+  public static final int CONFIG = 2;
+  public static final int SEMICOLON = 20;
+  public static final int GET = 11;
+  public static final int EXECUTOR = 10;
+  public static final int FREQUENCY = 40;
+  public static final int DURATION = 36;
   public static final int EOF = 0;
-  public static final int NUMBER = 10;
+  public static final int DECIMAL = 33;
+  public static final int SIZE = 31;
+  public static final int TEST = 3;
   public static final int error = 1;
-  public static final int LET = 21;
-  public static final int BODY = 18;
-  public static final int HEADER = 19;
+  public static final int NUMBER = 15;
+  public static final int EXPECT = 4;
+  public static final int CONTAINS = 25;
+  public static final int MAX_CONNECTIONS = 8;
+  public static final int HEADER = 24;
+  public static final int LBRACE = 18;
+  public static final int POST = 12;
+  public static final int LET = 29;
+  public static final int RBRACE = 19;
+  public static final int BODY = 23;
+  public static final int HTTP_VERSION = 7;
+  public static final int PARALLELISM = 6;
+  public static final int STRING = 17;
   public static final int BASE_URL = 5;
-  public static final int DELETE = 9;
-  public static final int CONFIG = 2;
-  public static final int GET = 6;
+  public static final int CONNECT_TIMEOUT = 9;
+  public static final int RATE = 38;
+  public static final int IDENTIFIER = 16;
   public static final String[] terminalNames = new String[] {
   "EOF",
   "error",
@@ -35,6 +54,11 @@ public class sym {
   "TEST",
   "EXPECT",
   "BASE_URL",
+  "PARALLELISM",
+  "HTTP_VERSION",
+  "MAX_CONNECTIONS",
+  "CONNECT_TIMEOUT",
+  "EXECUTOR",
   "GET",
   "POST",
   "PUT",
@@ -50,7 +74,21 @@ public class sym {
   "BODY",
   "HEADER",
   "CONTAINS",
-  "LET"
+  "LATENCY",
+  "TTFB",
+  "LESS",
+  "LET",
+  "JSON",
+  "SIZE",
+  "PARALLEL",
+  "DECIMAL",
+  "LOAD",
+  "USERS",
+  "DURATION",
+  "WARMUP",
+  "RATE",
+  "TIME",
+  "FREQUENCY"
   };
 }
 